@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -28,6 +29,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.security:spring-security-crypto")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     annotationProcessor("org.projectlombok:lombok")
@@ -35,8 +42,51 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     runtimeOnly("com.h2database:h2")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.13")
+    jmh("com.h2database:h2")
+    jmh("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("perf")
+    }
+}
+
+tasks.register<Test>("perfTest") {
+    description = "Runs performance measurements tagged with @Tag(\"perf\")."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("perf")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    // 가상 스레드가 캐리어 스레드에 고정(pinning)되면 스택을 출력한다.
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+    shouldRunAfter(tasks.test)
+}
+
+// load 프로필로 띄운 서버에 부하를 건다. 옵션은 -PloadArgs="--concurrency=128 --durationSeconds=120"
+tasks.register<JavaExec>("loadTest") {
+    description = "Drives a read/write mix against a running server and reports p50/p99 per endpoint."
+    group = "verification"
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass = "com.rest1.global.perf.LoadDriver"
+    args = (findProperty("loadArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: listOf()
+}
+
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // 커밋마다 결과를 비교할 수 있도록 JSON 으로 남긴다. (-Pjmh.includes=<정규식> 으로 일부만 실행)
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    (findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
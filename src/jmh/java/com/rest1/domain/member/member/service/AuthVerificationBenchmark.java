@@ -0,0 +1,106 @@
+package com.rest1.domain.member.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 액세스 토큰 검증(CPU 만 사용) vs API 키 조회(member 테이블 unique 인덱스 조회).
+// 조회 쪽은 같은 프로세스의 H2 메모리 DB 라서 네트워크 왕복과 커넥션 풀 비용이 빠져 있다. 실제 차이는 이보다 크다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthVerificationBenchmark {
+
+    private static final int MEMBER_COUNT = 10_000;
+
+    private AuthTokenService authTokenService;
+    private String accessToken;
+    private String apiKey;
+    private Connection connection;
+    private PreparedStatement findByApiKeyStatement;
+
+    @Setup
+    public void setUp() throws SQLException {
+        authTokenService = new AuthTokenService(
+                new ObjectMapper(),
+                new AccessTokenProperties(
+                        1200,
+                        "k1",
+                        Map.of("k1", "benchmark-access-token-secret-0000000001")
+                ),
+                new StandardEnvironment()
+        );
+        accessToken = authTokenService.genAccessToken(new MemberPrincipal(1L, "user1", "유저1"));
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:authBenchmark;MODE=MySQL");
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("""
+                    create table member (
+                        id bigint primary key,
+                        username varchar(255) unique,
+                        password varchar(255),
+                        nickname varchar(255),
+                        api_key varchar(255) unique
+                    )
+                    """);
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into member (id, username, password, nickname, api_key) values (?, ?, ?, ?, ?)"
+        )) {
+            for (int i = 1; i <= MEMBER_COUNT; i++) {
+                String key = UUID.randomUUID().toString();
+
+                if (i == MEMBER_COUNT / 2) {
+                    apiKey = key;
+                }
+
+                insert.setLong(1, i);
+                insert.setString(2, "user" + i);
+                insert.setString(3, "1234");
+                insert.setString(4, "유저" + i);
+                insert.setString(5, key);
+                insert.addBatch();
+            }
+
+            insert.executeBatch();
+        }
+
+        findByApiKeyStatement = connection.prepareStatement(
+                "select id, username, nickname from member where api_key = ?"
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        findByApiKeyStatement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Optional<MemberPrincipal> verifyAccessToken() {
+        return authTokenService.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public MemberPrincipal findByApiKey() throws SQLException {
+        findByApiKeyStatement.setString(1, apiKey);
+
+        try (ResultSet rs = findByApiKeyStatement.executeQuery()) {
+            rs.next();
+            return new MemberPrincipal(rs.getLong(1), rs.getString(2), rs.getString(3));
+        }
+    }
+}
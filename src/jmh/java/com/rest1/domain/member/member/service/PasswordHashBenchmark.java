@@ -0,0 +1,38 @@
+package com.rest1.domain.member.member.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// custom.password.bcryptStrength 를 고르기 위한 BCrypt 비용별 해시/검증 시간.
+// 로그인 한 건의 검증 시간이 곧 전용 스레드 하나의 처리 시간이므로, hashThreads / 검증 시간 = 초당 최대 로그인 수다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordHashBenchmark {
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("1234", hash);
+    }
+}
@@ -0,0 +1,51 @@
+package com.rest1.domain.post.post.dto;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.post.comment.dto.CommentDto;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.post.entity.Post;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 엔티티 -> 응답 DTO 변환 비용. 프록시가 아닌 초기화된 엔티티 기준이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoConstructionBenchmark {
+
+    private Post post;
+    private Comment comment;
+
+    @Setup
+    public void setUp() {
+        Member author = new Member("user1", "1234", "유저1");
+        setBaseFields(author, 1L);
+
+        post = new Post(author, "제목입니다", "내용입니다");
+        setBaseFields(post, 1L);
+
+        comment = post.addComment(author, "댓글입니다");
+        setBaseFields(comment, 1L);
+    }
+
+    private static void setBaseFields(Object entity, long id) {
+        LocalDateTime now = LocalDateTime.now();
+
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createDate", now);
+        ReflectionTestUtils.setField(entity, "modifyDate", now);
+    }
+
+    @Benchmark
+    public PostDto postDto() {
+        return new PostDto(post);
+    }
+
+    @Benchmark
+    public CommentDto commentDto() {
+        return new CommentDto(comment);
+    }
+}
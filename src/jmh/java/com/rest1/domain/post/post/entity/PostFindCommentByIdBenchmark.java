@@ -0,0 +1,51 @@
+package com.rest1.domain.post.post.entity;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.post.comment.entity.Comment;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Post.findCommentById 는 댓글 컬렉션을 처음부터 훑는다. 댓글 수에 비례해 느려지는지 본다.
+// 찾는 댓글은 가장 마지막(최악)과 존재하지 않는 id 두 가지.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostFindCommentByIdBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int commentCount;
+
+    private Post post;
+    private Long lastCommentId;
+    private Long missingCommentId;
+
+    @Setup
+    public void setUp() {
+        Member author = new Member("user1", "1234", "유저1");
+        ReflectionTestUtils.setField(author, "id", 1L);
+
+        post = new Post(author, "제목입니다", "내용입니다");
+        ReflectionTestUtils.setField(post, "id", 1L);
+
+        for (long id = 1; id <= commentCount; id++) {
+            Comment comment = post.addComment(author, "댓글 " + id);
+            ReflectionTestUtils.setField(comment, "id", id);
+        }
+
+        lastCommentId = (long) commentCount;
+        missingCommentId = commentCount + 1L;
+    }
+
+    @Benchmark
+    public Optional<Comment> findLast() {
+        return post.findCommentById(lastCommentId);
+    }
+
+    @Benchmark
+    public Optional<Comment> findMissing() {
+        return post.findCommentById(missingCommentId);
+    }
+}
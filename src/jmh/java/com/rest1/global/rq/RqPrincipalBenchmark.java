@@ -0,0 +1,66 @@
+package com.rest1.global.rq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import com.rest1.domain.member.member.service.AccessTokenProperties;
+import com.rest1.domain.member.member.service.AuthTokenService;
+import com.rest1.global.exception.ServiceException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Rq 의 Authorization 헤더 해석 비용(액세스 토큰 경로).
+// 요청 속성에 결과를 저장하므로 매번 새 요청을 만든다. newRequest 를 빼고 보면 된다.
+// 컨트롤러는 getPrincipal 결과(MemberPrincipal)를 그대로 받으므로 인증 비용은 이 메서드가 전부다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RqPrincipalBenchmark {
+
+    private AuthTokenService authTokenService;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        authTokenService = new AuthTokenService(
+                new ObjectMapper(),
+                new AccessTokenProperties(
+                        1200,
+                        "k1",
+                        Map.of("k1", "benchmark-access-token-secret-0000000001")
+                ),
+                new StandardEnvironment()
+        );
+        authorization = "Bearer " + authTokenService.genAccessToken(new MemberPrincipal(1L, "user1", "유저1"));
+    }
+
+    private MockHttpServletRequest newRequest(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", authorization);
+
+        return request;
+    }
+
+    @Benchmark
+    public MockHttpServletRequest newRequest() {
+        return newRequest(authorization);
+    }
+
+    @Benchmark
+    public MemberPrincipal accessToken() {
+        return new Rq(null, authTokenService, null, newRequest(authorization)).getPrincipal();
+    }
+
+    // 형식이 잘못된 헤더는 예외로 끝난다. 스택 트레이스 없는 ServiceException 비용을 포함한다.
+    @Benchmark
+    public Object malformedHeader() {
+        try {
+            return new Rq(null, authTokenService, null, newRequest("Basic abc")).getPrincipal();
+        } catch (ServiceException e) {
+            return e;
+        }
+    }
+}
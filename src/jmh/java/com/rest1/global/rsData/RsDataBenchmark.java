@@ -0,0 +1,63 @@
+package com.rest1.global.rsData;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.post.comment.dto.CommentDto;
+import com.rest1.domain.post.post.dto.PostDto;
+import com.rest1.global.cursorPage.CursorPage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// RsData 응답 경로: 상태 코드 조회와 Jackson 직렬화.
+// legacyStatusCode 는 ResultCode 도입 전처럼 resultCode 문자열을 나눠 파싱하는 방식이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RsDataBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RsData<PostDto> postRsData;
+    private CursorPage<CommentDto> commentPage;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트와 같은 설정(JavaTimeModule, 날짜를 문자열로)으로 만든다.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        PostDto postDto = new PostDto(1L, now, now, "제목입니다", "내용입니다", 3L, "유저1", 20L);
+        postRsData = new RsData<>(ResultCode.POST_CREATED, ResultCode.POST_CREATED.msg(1L), postDto);
+
+        List<CommentDto> comments = new ArrayList<>();
+
+        for (long id = 21; id >= 1; id--) {
+            comments.add(new CommentDto(id, now, now, "댓글 " + id, 3L, "유저1", 1L));
+        }
+
+        commentPage = CursorPage.of(comments, CursorPage.DEFAULT_SIZE, CommentDto::id);
+    }
+
+    @Benchmark
+    public int statusCode() {
+        return postRsData.getStatusCode();
+    }
+
+    @Benchmark
+    public int legacyStatusCode() {
+        return Integer.parseInt(postRsData.getResultCode().split("-", 2)[0]);
+    }
+
+    @Benchmark
+    public byte[] serializePost() throws Exception {
+        return objectMapper.writeValueAsBytes(postRsData);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentPage() throws Exception {
+        return objectMapper.writeValueAsBytes(commentPage);
+    }
+}
@@ -0,0 +1,87 @@
+package com.rest1.global.rsData;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// RsData 상태 코드 매핑: 예전 @Around 애스펙트 프록시 vs ResponseBodyAdvice.
+// 같은 컨트롤러를 MockMvc 로 호출해 디스패치 전체 비용을 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RsDataStatusBenchmark {
+
+    private MockMvc aspectMvc;
+    private MockMvc adviceMvc;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new BenchmarkController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(StatusAspect.class);
+
+        aspectMvc = MockMvcBuilders
+                .standaloneSetup((Object) proxyFactory.getProxy())
+                .build();
+
+        adviceMvc = MockMvcBuilders
+                .standaloneSetup(new BenchmarkController())
+                .setControllerAdvice(new RsDataStatusAdvice())
+                .build();
+    }
+
+    @Benchmark
+    public int aspect() throws Exception {
+        return aspectMvc.perform(post("/bench"))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    @Benchmark
+    public int responseBodyAdvice() throws Exception {
+        return adviceMvc.perform(post("/bench"))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    @RestController
+    public static class BenchmarkController {
+
+        @PostMapping("/bench")
+        public RsData<Void> create() {
+            return new RsData<>(ResultCode.POST_CREATED, "생성되었습니다.");
+        }
+    }
+
+    // 삭제된 ResponseAspect 와 같은 일을 한다. 응답 객체는 요청 스코프 프록시처럼 RequestContextHolder 에서 찾는다.
+    @Aspect
+    public static class StatusAspect {
+
+        @Around("execution(* com.rest1.global.rsData.RsDataStatusBenchmark.BenchmarkController.*(..))")
+        public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+            Object rst = joinPoint.proceed();
+
+            if (rst instanceof RsData<?> rsData) {
+                HttpServletResponse response = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getResponse();
+                response.setStatus(rsData.getStatusCode());
+            }
+
+            return rst;
+        }
+    }
+}
@@ -1,15 +1,20 @@
 package com.rest1.domain.member.member.controller;
 
 import com.rest1.domain.member.member.dto.MemberDto;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.service.AuthRateLimiter;
+import com.rest1.domain.member.member.service.AuthTokenService;
 import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.global.exception.ServiceException;
 import com.rest1.global.rq.Rq;
+import com.rest1.global.rsData.ResultCode;
 import com.rest1.global.rsData.RsData;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -18,7 +23,10 @@ import org.springframework.web.bind.annotation.*;
 public class ApiV1MemberController {
 
     private final MemberService memberService;
+    private final AuthTokenService authTokenService;
+    private final AuthRateLimiter authRateLimiter;
     private final Rq rq;
+
     record JoinReqBody(
             @NotBlank
             @Size(min = 2, max = 30)
@@ -39,6 +47,7 @@ public class ApiV1MemberController {
     ) {
     }
 
+    // 비밀번호 해싱 동안 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. 조회와 저장은 각각 트랜잭션으로 실행된다.
     @PostMapping("/join")
     public RsData<MemberDto> join(
             @RequestBody @Valid JoinReqBody reqBody
@@ -46,8 +55,8 @@ public class ApiV1MemberController {
         Member member = memberService.join(reqBody.username, reqBody.password, reqBody.nickname);
 
         return new RsData(
-                "201-1",
-                "회원가입이 완료되었습니다. %s님 환영합니다.".formatted(reqBody.nickname),
+                ResultCode.JOINED,
+                ResultCode.JOINED.msg(reqBody.nickname),
                 new JoinResBody(
                         new MemberDto(member)
                 )
@@ -68,29 +77,33 @@ public class ApiV1MemberController {
 
     record LoginResBody(
             MemberDto memberDto,
-            String apiKey
+            String apiKey,
+            String accessToken
     ) {
     }
 
+    // 비밀번호 검증 동안 커넥션을 잡지 않도록 트랜잭션을 열지 않는다. 지연 로딩하는 필드는 쓰지 않는다.
     @PostMapping("/login")
     public RsData<MemberDto> login(
             @RequestBody @Valid LoginReqBody reqBody
     ) {
+        authRateLimiter.checkLogin(rq.getClientIp(), reqBody.username);
 
         Member member = memberService.findByUsername(reqBody.username).orElseThrow(
-                () -> new ServiceException("401-1", "존재하지 않는 아이디입니다.")
+                () -> ServiceException.of(ResultCode.USERNAME_NOT_FOUND)
         );
 
-        if (!member.getPassword().equals(reqBody.password)) {
-            throw new ServiceException("401-2", "비밀번호가 일치하지 않습니다.");
+        if (!memberService.checkPassword(member, reqBody.password)) {
+            throw ServiceException.of(ResultCode.PASSWORD_MISMATCH);
         }
 
         return new RsData(
-                "200-1",
-                "%s님 환영합니다.".formatted(reqBody.username),
+                ResultCode.LOGGED_IN,
+                ResultCode.LOGGED_IN.msg(reqBody.username),
                 new LoginResBody(
                         new MemberDto(member),
-                        member.getApiKey()
+                        member.getApiKey(),
+                        authTokenService.genAccessToken(new MemberPrincipal(member))
                 )
         );
     }
@@ -102,15 +115,20 @@ public class ApiV1MemberController {
     }
 
     @GetMapping("/me")
-    public RsData<MemberDto> me() {
+    @Transactional(readOnly = true)
+    public RsData<MemberDto> me(
+            MemberPrincipal actor
+    ) {
 
-        Member actor = rq.getActor();
+        // 액세스 토큰은 DB 를 보지 않으므로 발급 이후 삭제된 회원일 수 있다.
+        Member member = memberService.findById(actor.id())
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
 
         return new RsData(
-                "200-1",
-                "OK",
+                ResultCode.OK,
+                ResultCode.OK.msg(),
                 new MeResBody(
-                        new MemberDto(actor)
+                        new MemberDto(member)
                 )
         );
     }
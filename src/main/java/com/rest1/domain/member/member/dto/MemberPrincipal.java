@@ -0,0 +1,17 @@
+package com.rest1.domain.member.member.dto;
+
+import com.rest1.domain.member.member.entity.Member;
+
+public record MemberPrincipal(
+        Long id,
+        String username,
+        String nickname
+) {
+    public MemberPrincipal(Member member) {
+        this(
+                member.getId(),
+                member.getUsername(),
+                member.getNickname()
+        );
+    }
+}
@@ -1,7 +1,11 @@
 package com.rest1.domain.member.member.repository;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -9,5 +13,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
 
-    Optional<Member> findByApiKey(String apiKey);
+    // 인증에는 식별 정보만 필요하므로 엔티티(비밀번호 포함)를 영속성 컨텍스트에 올리지 않는다.
+    @Query("""
+            select new com.rest1.domain.member.member.dto.MemberPrincipal(m.id, m.username, m.nickname)
+            from Member m
+            where m.apiKey = :apiKey
+            """)
+    Optional<MemberPrincipal> findPrincipalByApiKey(String apiKey);
+
+    // 로그인은 트랜잭션 없이 처리하므로 비밀번호 해시 교체만 따로 커밋한다.
+    @Modifying
+    @Transactional
+    @Query("""
+            update Member m
+            set m.password = :password
+            where m.id = :id
+            """)
+    int updatePassword(Long id, String password);
 }
@@ -0,0 +1,15 @@
+package com.rest1.domain.member.member.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+// keys 에 새 키를 추가하고 activeKeyId 를 바꾸면 새 키로 발급하면서 기존 토큰도 만료 전까지 검증된다.
+// 이전 키를 keys 에서 제거하면 그 키로 서명된 토큰은 더 이상 통과하지 않는다.
+@ConfigurationProperties(prefix = "custom.access-token")
+public record AccessTokenProperties(
+        long expireSeconds,
+        String activeKeyId,
+        Map<String, String> keys
+) {
+}
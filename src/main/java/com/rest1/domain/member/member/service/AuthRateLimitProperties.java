@@ -0,0 +1,15 @@
+package com.rest1.domain.member.member.service;
+
+import com.rest1.global.rateLimiter.RateLimiter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// 로그인은 IP 와 아이디 각각, API 키 인증은 IP 별 실패 횟수로 제한한다.
+// maxKeys 는 한도별로 기억하는 키 수, 넘치면 오래 안 쓴 버킷부터 버린다.
+@ConfigurationProperties(prefix = "custom.rate-limit")
+public record AuthRateLimitProperties(
+        RateLimiter.Limit loginByIp,
+        RateLimiter.Limit loginByUsername,
+        RateLimiter.Limit apiKeyFailureByIp,
+        long maxKeys
+) {
+}
@@ -0,0 +1,40 @@
+package com.rest1.domain.member.member.service;
+
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rateLimiter.RateLimiter;
+import com.rest1.global.rsData.ResultCode;
+import org.springframework.stereotype.Component;
+
+// 무차별 대입 시도가 DB 커넥션과 비밀번호 해시 스레드를 쓰기 전에 막는다.
+// IP 는 request.getRemoteAddr() 기준이므로 프록시 뒤에서는 server.forward-headers-strategy 를 설정해야 한다.
+@Component
+public class AuthRateLimiter {
+
+    private final RateLimiter loginByIp;
+    private final RateLimiter loginByUsername;
+    private final RateLimiter apiKeyFailureByIp;
+
+    public AuthRateLimiter(AuthRateLimitProperties properties) {
+        this.loginByIp = new RateLimiter(properties.loginByIp(), properties.maxKeys());
+        this.loginByUsername = new RateLimiter(properties.loginByUsername(), properties.maxKeys());
+        this.apiKeyFailureByIp = new RateLimiter(properties.apiKeyFailureByIp(), properties.maxKeys());
+    }
+
+    // 로그인은 성공/실패와 관계없이 시도마다 차감한다.
+    public void checkLogin(String ip, String username) {
+        if (!loginByIp.tryAcquire(ip) || !loginByUsername.tryAcquire(username)) {
+            throw ServiceException.of(ResultCode.LOGIN_TOO_MANY_REQUESTS);
+        }
+    }
+
+    // API 키 인증은 정상 사용자의 요청이 많으므로 실패한 경우만 차감하고, 다 쓴 IP 는 조회 전에 막는다.
+    public void checkApiKey(String ip) {
+        if (!apiKeyFailureByIp.hasToken(ip)) {
+            throw ServiceException.of(ResultCode.AUTH_TOO_MANY_FAILURES);
+        }
+    }
+
+    public void recordApiKeyFailure(String ip) {
+        apiKeyFailureByIp.tryAcquire(ip);
+    }
+}
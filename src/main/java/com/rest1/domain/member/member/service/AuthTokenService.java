@@ -0,0 +1,191 @@
+package com.rest1.domain.member.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// HS256 으로 서명한 JWT 형식의 액세스 토큰. 검증은 DB 조회 없이 CPU 만으로 끝난다.
+@Service
+public class AuthTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    // dev/test 프로필 yml 에만 있는 개발용 키. 저장소에 공개된 값이므로 다른 프로필에서는 기동을 막는다.
+    static final String DEV_SECRET_PREFIX = "dev-only-";
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final long expireSeconds;
+    private final SigningKey activeKey;
+    // 헤더는 kid 별로 고정이라 인코딩된 헤더 문자열로 바로 키를 찾는다.
+    private final Map<String, SigningKey> keysByHeader;
+
+    public AuthTokenService(ObjectMapper objectMapper, AccessTokenProperties properties, Environment environment) {
+        this.objectMapper = objectMapper;
+        this.expireSeconds = properties.expireSeconds();
+
+        if (properties.keys() == null || properties.keys().isEmpty()) {
+            throw new IllegalStateException("custom.access-token.keys 가 없습니다. ACCESS_TOKEN_SECRET_K1 을 설정해주세요.");
+        }
+
+        boolean devKeysAllowed = environment.matchesProfiles("dev | test");
+
+        Map<String, SigningKey> keysByHeader = new HashMap<>();
+        properties.keys().forEach((keyId, secret) -> {
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException(
+                        "액세스 토큰 키(%s)가 비어 있습니다. 환경 변수로 설정해주세요.".formatted(keyId)
+                );
+            }
+
+            if (!devKeysAllowed && secret.startsWith(DEV_SECRET_PREFIX)) {
+                throw new IllegalStateException(
+                        "액세스 토큰 키(%s)에 개발용 값이 들어 있습니다. dev/test 프로필 밖에서는 쓸 수 없습니다.".formatted(keyId)
+                );
+            }
+
+            SigningKey key = SigningKey.of(keyId, secret);
+            keysByHeader.put(key.header(), key);
+        });
+        this.keysByHeader = Map.copyOf(keysByHeader);
+
+        this.activeKey = this.keysByHeader.values().stream()
+                .filter(key -> key.keyId().equals(properties.activeKeyId()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "custom.access-token.keys 에 activeKeyId(%s) 가 없습니다.".formatted(properties.activeKeyId())
+                ));
+    }
+
+    public static boolean isAccessToken(String credential) {
+        // API 키는 UUID 라서 '.' 을 포함하지 않는다.
+        return credential.indexOf('.') >= 0;
+    }
+
+    public String genAccessToken(MemberPrincipal principal) {
+        AccessTokenPayload payload = new AccessTokenPayload(
+                principal.id(),
+                principal.username(),
+                principal.nickname(),
+                Instant.now().getEpochSecond() + expireSeconds
+        );
+
+        String content = activeKey.header() + "." + BASE64_ENCODER.encodeToString(writePayload(payload));
+
+        return content + "." + BASE64_ENCODER.encodeToString(activeKey.sign(content));
+    }
+
+    public Optional<MemberPrincipal> parseAccessToken(String accessToken) {
+        int headerEnd = accessToken.indexOf('.');
+        int payloadEnd = accessToken.lastIndexOf('.');
+
+        if (headerEnd <= 0 || payloadEnd <= headerEnd) {
+            return Optional.empty();
+        }
+
+        SigningKey key = keysByHeader.get(accessToken.substring(0, headerEnd));
+
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] signature = BASE64_DECODER.decode(accessToken.substring(payloadEnd + 1));
+
+            if (!MessageDigest.isEqual(key.sign(accessToken.substring(0, payloadEnd)), signature)) {
+                return Optional.empty();
+            }
+
+            AccessTokenPayload payload = objectMapper.readValue(
+                    BASE64_DECODER.decode(accessToken.substring(headerEnd + 1, payloadEnd)),
+                    AccessTokenPayload.class
+            );
+
+            if (payload.exp() < Instant.now().getEpochSecond()) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new MemberPrincipal(payload.id(), payload.username(), payload.nickname()));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] writePayload(AccessTokenPayload payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record AccessTokenPayload(
+            Long id,
+            String username,
+            String nickname,
+            long exp
+    ) {
+    }
+
+    private record SigningKey(
+            String keyId,
+            String header,
+            Mac prototype
+    ) {
+        static SigningKey of(String keyId, String secret) {
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+
+            if (secretBytes.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException(
+                        "액세스 토큰 키(%s)는 %d바이트 이상이어야 합니다.".formatted(keyId, MIN_SECRET_BYTES)
+                );
+            }
+
+            String header = """
+                    {"alg":"HS256","typ":"JWT","kid":"%s"}""".formatted(keyId);
+
+            return new SigningKey(
+                    keyId,
+                    BASE64_ENCODER.encodeToString(header.getBytes(StandardCharsets.UTF_8)),
+                    newMac(new SecretKeySpec(secretBytes, ALGORITHM))
+            );
+        }
+
+        byte[] sign(String content) {
+            return copyMac().doFinal(content.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        // Mac 은 스레드 안전하지 않으므로 초기화된 원본을 복제해서 쓴다.
+        private Mac copyMac() {
+            try {
+                return (Mac) prototype.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Mac newMac(SecretKeySpec secretKey) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
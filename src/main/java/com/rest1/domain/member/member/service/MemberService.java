@@ -1,9 +1,13 @@
 package com.rest1.domain.member.member.service;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.global.cacheConfig.CacheConfig;
 import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -13,6 +17,7 @@ import java.util.Optional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final PasswordHasher passwordHasher;
 
     public long count() {
         return memberRepository.count();
@@ -22,18 +27,38 @@ public class MemberService {
 
         memberRepository.findByUsername(username)
                 .ifPresent(m -> {
-                    throw new ServiceException("409-1", "이미 사용중인 아이디입니다.");
+                    throw ServiceException.of(ResultCode.USERNAME_DUPLICATED);
                 });
 
-        Member member = new Member(username, password, nickname);
+        Member member = new Member(username, passwordHasher.hash(password), nickname);
         return memberRepository.save(member);
     }
 
+    // 예전 평문 비밀번호나 지금보다 낮은 비용으로 만든 해시는 로그인에 성공했을 때 새 해시로 바꿔 저장한다.
+    public boolean checkPassword(Member member, String rawPassword) {
+        PasswordHasher.Verification verification = passwordHasher.verify(rawPassword, member.getPassword());
+
+        if (verification.upgradedHash() != null) {
+            memberRepository.updatePassword(member.getId(), verification.upgradedHash());
+        }
+
+        return verification.matched();
+    }
+
+    public Optional<Member> findById(Long id) {
+        return memberRepository.findById(id);
+    }
+
     public Optional<Member> findByUsername(String username) {
         return memberRepository.findByUsername(username);
     }
 
-    public Optional<Member> findByApiKey(String apiKey) {
-        return memberRepository.findByApiKey(apiKey);
+    @Cacheable(cacheNames = CacheConfig.MEMBER_PRINCIPAL_BY_API_KEY, key = "#apiKey", unless = "#result == null")
+    public Optional<MemberPrincipal> findPrincipalByApiKey(String apiKey) {
+        return memberRepository.findPrincipalByApiKey(apiKey);
+    }
+
+    public Member getReferenceById(Long id) {
+        return memberRepository.getReferenceById(id);
     }
 }
@@ -0,0 +1,123 @@
+package com.rest1.domain.member.member.service;
+
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt 해시/검증을 요청 스레드가 아닌 크기가 정해진 전용 스레드 풀에서 실행한다.
+// 로그인이 몰려도 CPU 를 쓰는 스레드 수가 늘지 않아 다른 API 가 굶지 않고, 넘치는 요청은 기다리지 않고 바로 거절한다.
+// 요청 스레드는 결과를 기다리는 동안 막히지만 가상 스레드 모드에서는 플랫폼 스레드를 점유하지 않는다.
+// 시간 안에 끝나지 않으면 대기열의 작업은 취소하고 빼내서 실행되지 않는다.
+// 이미 실행 중인 BCrypt 는 인터럽트를 확인하지 않아 응답(503)과 관계없이 끝까지 돈다.
+// 그래도 버려지는 작업은 스레드당 해시 한 번(bcryptStrength 로 정해진 비용)을 넘지 않는다.
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHasher(PasswordProperties properties) {
+        this.encoder = new BCryptPasswordEncoder(properties.bcryptStrength());
+        this.timeoutMillis = properties.hashTimeoutMillis();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.hashThreads(),
+                properties.hashThreads(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.hashQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public record Verification(
+            boolean matched,
+            // 일치했고 저장된 값을 바꿔야 할 때만 새 해시가 들어 있다.
+            String upgradedHash
+    ) {
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    public Verification verify(String rawPassword, String storedPassword) {
+        return run(() -> {
+            if (!isHashed(storedPassword)) {
+                boolean matched = MessageDigest.isEqual(
+                        rawPassword.getBytes(StandardCharsets.UTF_8),
+                        storedPassword.getBytes(StandardCharsets.UTF_8)
+                );
+
+                return new Verification(matched, matched ? encoder.encode(rawPassword) : null);
+            }
+
+            if (!encoder.matches(rawPassword, storedPassword)) {
+                return new Verification(false, null);
+            }
+
+            return new Verification(true, encoder.upgradeEncoding(storedPassword) ? encoder.encode(rawPassword) : null);
+        });
+    }
+
+    // 해시 도입 전에 저장된 평문 비밀번호는 BCrypt 형식($2a$, $2b$, $2y$)이 아니다.
+    static boolean isHashed(String storedPassword) {
+        return storedPassword.length() == 60 && storedPassword.startsWith("$2");
+    }
+
+    // 테스트에서 스레드를 붙잡는 작업을 넣을 수 있도록 패키지 범위로 둔다.
+    <T> T run(Callable<T> task) {
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw ServiceException.of(ResultCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            // 아직 대기열에 있으면 바로 빼서 자리를 비운다.
+            executor.remove((Runnable) future);
+            throw ServiceException.of(ResultCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ServiceException.of(ResultCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
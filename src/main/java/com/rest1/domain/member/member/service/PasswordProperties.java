@@ -0,0 +1,14 @@
+package com.rest1.domain.member.member.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// bcryptStrength 는 해시 비용(2^strength 회 반복), PasswordHashBenchmark 로 한 번에 수십 ms 정도가 되는 값을 고른다.
+// 해시 계산은 hashThreads 개의 전용 스레드에서만 하고, 대기열(hashQueueCapacity)이 차거나 hashTimeoutMillis 안에 끝나지 않으면 503 으로 응답한다.
+@ConfigurationProperties(prefix = "custom.password")
+public record PasswordProperties(
+        int bcryptStrength,
+        int hashThreads,
+        int hashQueueCapacity,
+        long hashTimeoutMillis
+) {
+}
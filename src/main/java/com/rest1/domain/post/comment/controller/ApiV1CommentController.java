@@ -1,12 +1,17 @@
 package com.rest1.domain.post.comment.controller;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.domain.post.comment.dto.CommentDto;
 import com.rest1.domain.post.comment.entity.Comment;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.service.PostService;
-import com.rest1.global.rq.Rq;
+import com.rest1.global.cursorPage.CursorPage;
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.httpCache.HttpCache;
+import com.rest1.global.requestValidator.RequestValidator;
+import com.rest1.global.rsData.ResultCode;
 import com.rest1.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,8 +21,12 @@ import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,17 +36,45 @@ public class ApiV1CommentController {
 
     private final PostService postService;
     private final MemberService memberService;
-    private final Rq rq;
+    private final RequestValidator requestValidator;
 
+    // 첫 페이지는 캐시에서 읽으므로 트랜잭션을 열지 않는다.
+    // 같은 페이지를 다시 요청하면 직렬화 없이 304 로 응답한다.
     @GetMapping(value = "/{postId}/comments")
     @Operation(summary = "다건 조회")
-    public List<CommentDto> getItems(
-            @PathVariable Long postId
+    public CursorPage<CommentDto> getItems(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest
     ) {
-        Post post = postService.findById(postId).get();
-        return post.getComments().reversed().stream()
-                .map(CommentDto::new)
-                .toList();
+        int pageSize = CursorPage.normalizeSize(size);
+        List<CommentDto> rows = cursor == null
+                ? postService.findLatestCommentDtos(postId)
+                : postService.findCommentDtos(postId, cursor, pageSize + 1);
+
+        // 댓글이 없을 때만 글 존재 여부를 확인한다.
+        if (rows.isEmpty() && !postService.existsById(postId)) {
+            throw ServiceException.of(ResultCode.NOT_FOUND);
+        }
+
+        CursorPage<CommentDto> page = CursorPage.of(rows, pageSize, CommentDto::id);
+
+        if (HttpCache.checkNotModified(webRequest, commentsEtag(page))) {
+            return null;
+        }
+
+        return page;
+    }
+
+    // 페이지에 담긴 댓글의 id, 수정일과 다음 커서가 같으면 같은 응답이다.
+    private String commentsEtag(CursorPage<CommentDto> page) {
+        String source = page.items()
+                .stream()
+                .map(comment -> comment.id() + ":" + comment.modifyDate())
+                .collect(Collectors.joining(",", "", "|" + page.nextCursor()));
+
+        return HttpCache.hashEtag(source);
     }
 
     @GetMapping(value = "/{postId}/comments/{commentId}")
@@ -45,30 +82,42 @@ public class ApiV1CommentController {
     @Operation(summary = "단건 조회")
     public CommentDto getItem(
             @PathVariable Long postId,
-            @PathVariable Long commentId
+            @PathVariable Long commentId,
+            WebRequest webRequest
     ) {
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
+        Comment comment = postService.findCommentById(postId, commentId)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+
+        if (HttpCache.checkNotModified(webRequest, etag(comment), comment.getModifyDate())) {
+            return null;
+        }
+
         return new CommentDto(comment);
     }
 
+    private static String etag(Comment comment) {
+        return "\"comment-%d-%s\"".formatted(comment.getId(), comment.getModifyDate());
+    }
+
     @DeleteMapping("/{postId}/comments/{commentId}")
     @Transactional
     @Operation(summary = "댓글 삭제")
     public RsData<Void> deleteItem(
             @PathVariable Long postId,
-            @PathVariable Long commentId
+            @PathVariable Long commentId,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
-        comment.checkActorDelete(actor);
-        postService.deleteComment(post, commentId);
+        Comment comment = postService.findCommentById(postId, commentId)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+        comment.checkActorDelete(actor.id());
+        HttpCache.checkIfMatch(ifMatch, etag(comment));
+        postService.deleteComment(comment);
 
         return new RsData<>(
-                "200-1",
-                "%d번 댓글이 삭제되었습니다.".formatted(commentId)
+                ResultCode.COMMENT_DELETED,
+                ResultCode.COMMENT_DELETED.msg(commentId)
         );
     }
 
@@ -89,18 +138,19 @@ public class ApiV1CommentController {
     @Operation(summary = "댓글 작성")
     public RsData<CommentWriteResBody> createItem(
             @PathVariable Long postId,
-            @RequestBody @Valid CommentWriteReqBody reqBody
+            @RequestBody @Valid CommentWriteReqBody reqBody,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-        Post post = postService.findById(postId).get();
-        Comment comment = postService.writeComment(actor, post, reqBody.content);
+        Post post = postService.findById(postId)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+        Comment comment = postService.writeComment(memberService.getReferenceById(actor.id()), post, reqBody.content);
 
         postService.flush();
 
         return new RsData<>(
-                "201-1",
-                "%d번 댓글이 생성되었습니다.".formatted(comment.getId()),
+                ResultCode.COMMENT_CREATED,
+                ResultCode.COMMENT_CREATED.msg(comment.getId()),
                 new CommentWriteResBody(
                         new  CommentDto(comment)
                 )
@@ -108,6 +158,71 @@ public class ApiV1CommentController {
     }
 
 
+    record CommentBulkWriteResBody(
+            List<RsData<CommentDto>> results
+    ) {}
+
+    @PostMapping("/{postId}/comments/bulk")
+    @Transactional
+    @Operation(summary = "댓글 일괄 작성")
+    public RsData<CommentBulkWriteResBody> createItems(
+            @PathVariable Long postId,
+            @RequestBody List<CommentWriteReqBody> reqBodies,
+            MemberPrincipal actor
+    ) {
+        postService.checkBulkWriteSize(reqBodies.size());
+
+        if (!postService.existsById(postId)) {
+            throw ServiceException.of(ResultCode.NOT_FOUND);
+        }
+
+        List<RsData<CommentDto>> results = new ArrayList<>(reqBodies.size());
+        Member author = memberService.getReferenceById(actor.id());
+        Post post = postService.getReferenceById(postId);
+        int writtenCount = 0;
+
+        for (CommentWriteReqBody reqBody : reqBodies) {
+            Optional<RsData<CommentDto>> invalid = requestValidator.validate(reqBody);
+
+            if (invalid.isPresent()) {
+                results.add(invalid.get());
+                continue;
+            }
+
+            Comment comment = postService.saveComment(author, post, reqBody.content);
+            results.add(new RsData<>(
+                    ResultCode.COMMENT_CREATED,
+                    ResultCode.COMMENT_CREATED.msg(comment.getId()),
+                    new CommentDto(comment)
+            ));
+
+            if (++writtenCount % PostService.BULK_CHUNK_SIZE == 0) {
+                postService.flushAndClear();
+                author = memberService.getReferenceById(actor.id());
+                post = postService.getReferenceById(postId);
+            }
+        }
+
+        if (writtenCount > 0) {
+            postService.increaseCommentCount(postId, writtenCount);
+        }
+
+        if (writtenCount == 0) {
+            return new RsData<>(
+                    ResultCode.COMMENTS_BULK_NONE_CREATED,
+                    ResultCode.COMMENTS_BULK_NONE_CREATED.msg(),
+                    new CommentBulkWriteResBody(results)
+            );
+        }
+
+        return new RsData<>(
+                ResultCode.COMMENTS_BULK_CREATED,
+                ResultCode.COMMENTS_BULK_CREATED.msg(reqBodies.size(), writtenCount),
+                new CommentBulkWriteResBody(results)
+        );
+    }
+
+
     record CommentModifyReqBody(
             @NotBlank
             @Size(min = 2, max = 100)
@@ -121,18 +236,20 @@ public class ApiV1CommentController {
     public RsData<Void> modifyItem(
             @PathVariable Long postId,
             @PathVariable Long commentId,
-            @RequestBody @Valid CommentWriteReqBody reqBody
+            @RequestBody @Valid CommentWriteReqBody reqBody,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-        Post post = postService.findById(postId).get();
-        Comment comment = post.findCommentById(commentId).get();
-        comment.checkActorModify(actor);
-        postService.modifyComment(post, commentId, reqBody.content);
+        Comment comment = postService.findCommentById(postId, commentId)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+        comment.checkActorModify(actor.id());
+        HttpCache.checkIfMatch(ifMatch, etag(comment));
+        postService.modifyComment(comment, reqBody.content);
 
         return new RsData<>(
-                "200-1",
-                ("%d번 댓글이 수정되었습니다.").formatted(commentId)
+                ResultCode.COMMENT_MODIFIED,
+                ResultCode.COMMENT_MODIFIED.msg(commentId)
         );
     }
 
@@ -5,6 +5,7 @@ import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.global.exception.ServiceException;
 import com.rest1.global.jpa.entity.BaseEntity;
+import com.rest1.global.rsData.ResultCode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
@@ -35,15 +36,15 @@ public class Comment extends BaseEntity {
         this.content = content;
     }
 
-    public void checkActorModify(Member actor) {
-        if(!this.author.getId().equals(actor.getId())) {
-            throw new ServiceException("403-1", "댓글 수정 권한이 없습니다.");
+    public void checkActorModify(Long actorId) {
+        if(!this.author.getId().equals(actorId)) {
+            throw ServiceException.of(ResultCode.COMMENT_MODIFY_FORBIDDEN);
         }
     }
 
-    public void checkActorDelete(Member actor) {
-        if(!this.author.getId().equals(actor.getId())) {
-            throw new ServiceException("403-2", "댓글 삭제 권한이 없습니다.");
+    public void checkActorDelete(Long actorId) {
+        if(!this.author.getId().equals(actorId)) {
+            throw ServiceException.of(ResultCode.COMMENT_DELETE_FORBIDDEN);
         }
     }
 }
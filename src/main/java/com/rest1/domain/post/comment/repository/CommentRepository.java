@@ -0,0 +1,55 @@
+package com.rest1.domain.post.comment.repository;
+
+import com.rest1.domain.post.comment.dto.CommentDto;
+import com.rest1.domain.post.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.post.id = :postId
+            order by c.id desc
+            """)
+    List<CommentDto> findDtosByPostId(Long postId, Pageable pageable);
+
+    @Query("""
+            select new com.rest1.domain.post.comment.dto.CommentDto(
+                c.id, c.createDate, c.modifyDate, c.content, a.id, a.nickname, c.post.id
+            )
+            from Comment c
+            join c.author a
+            where c.post.id = :postId
+            and c.id < :cursor
+            order by c.id desc
+            """)
+    List<CommentDto> findDtosByPostIdAndIdLessThan(Long postId, Long cursor, Pageable pageable);
+
+    @Query("""
+            select c
+            from Comment c
+            join fetch c.author
+            where c.post.id = :postId
+            and c.id = :id
+            """)
+    Optional<Comment> findByPostIdAndId(Long postId, Long id);
+
+    @Modifying
+    @Query("""
+            delete from Comment c
+            where c.post.id = :postId
+            and c.id = :id
+            and c.version = :version
+            """)
+    int deleteByPostIdAndIdAndVersion(Long postId, Long id, Long version);
+}
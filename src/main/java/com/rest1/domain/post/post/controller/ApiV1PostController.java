@@ -1,11 +1,17 @@
 package com.rest1.domain.post.post.controller;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.domain.post.post.dto.PostDto;
+import com.rest1.domain.post.post.dto.PostSummaryDto;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.service.PostService;
-import com.rest1.global.rq.Rq;
+import com.rest1.global.cursorPage.CursorPage;
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.httpCache.HttpCache;
+import com.rest1.global.requestValidator.RequestValidator;
+import com.rest1.global.rsData.ResultCode;
 import com.rest1.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,8 +21,12 @@ import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,46 +36,70 @@ public class ApiV1PostController {
 
     private final PostService postService;
     private final MemberService memberService;
-    private final Rq rq;
+    private final RequestValidator requestValidator;
 
 
     @GetMapping
     @Transactional(readOnly = true)
     @Operation(summary = "글 다건 조회")
-    public List<PostDto> getItems() {
-        return postService.findAll().reversed().stream()
-                .map(PostDto::new)
-                .toList();
+    public CursorPage<PostSummaryDto> getItems(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        int pageSize = CursorPage.normalizeSize(size);
+        List<PostSummaryDto> rows = postService.findSummaries(cursor, pageSize + 1);
+
+        return CursorPage.of(rows, pageSize, PostSummaryDto::id);
     }
 
 
+    // 캐시에 있으면 트랜잭션(커넥션) 없이 바로 응답한다.
+    // ETag 가 그대로면 직렬화 없이 304 로 응답한다.
+    // 댓글 수가 바뀌어도 수정일은 그대로이므로 Last-Modified(If-Modified-Since)는 쓰지 않는다.
     @GetMapping("/{id}")
-    @Transactional(readOnly = true)
     @Operation(summary = "글 단건 조회")
     public PostDto getItem(
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        Post post = postService.findById(id).get();
-        return new PostDto(post);
+        PostDto postDto = postService.findPostDtoById(id)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+        String etag = etag(postDto.id(), postDto.modifyDate(), postDto.commentCount());
+
+        if (HttpCache.checkNotModified(webRequest, etag)) {
+            return null;
+        }
 
+        return postDto;
     }
 
 
+    // 댓글 수는 수정일을 바꾸지 않으므로 ETag 에 함께 넣는다.
+    private static String etag(Long id, LocalDateTime modifyDate, Long commentCount) {
+        return "\"post-%d-%s-%d\"".formatted(id, modifyDate, commentCount);
+    }
+
+
+    // 조회, If-Match 확인, 삭제를 한 트랜잭션에서 한다. open-in-view 를 끈 운영에서도 같은 영속성 컨텍스트를 쓴다.
     @DeleteMapping("/{id}")
+    @Transactional
     @Operation(summary = "글 삭제")
     public RsData<Void> deleteItem(
-            @PathVariable Long id
+            @PathVariable Long id,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-        Post post = postService.findById(id).get();
+        Post post = postService.findById(id)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
 
-        post.checkActorDelete(actor);
+        post.checkActorDelete(actor.id());
+        HttpCache.checkIfMatch(ifMatch, etag(post.getId(), post.getModifyDate(), post.getCommentCount()));
         postService.delete(post);
 
         return new RsData<Void>(
-                "200-1",
-                "%d번 게시물이 삭제되었습니다.".formatted(id)
+                ResultCode.POST_DELETED,
+                ResultCode.POST_DELETED.msg(id)
         );
     }
 
@@ -90,15 +124,15 @@ public class ApiV1PostController {
     @Transactional
     @Operation(summary = "글 작성")
     public RsData<PostWriteResBody> createItem(
-            @RequestBody @Valid PostWriteReqBody reqBody
+            @RequestBody @Valid PostWriteReqBody reqBody,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-        Post post = postService.write(actor, reqBody.title, reqBody.content);
+        Post post = postService.write(memberService.getReferenceById(actor.id()), reqBody.title, reqBody.content);
 
         return new RsData<>(
-                "201-1",
-                "%d번 게시물이 생성되었습니다.".formatted(post.getId()),
+                ResultCode.POST_CREATED,
+                ResultCode.POST_CREATED.msg(post.getId()),
                 new PostWriteResBody(
                         new PostDto(post)
                 )
@@ -106,6 +140,61 @@ public class ApiV1PostController {
     }
 
 
+    record PostBulkWriteResBody(
+            List<RsData<PostDto>> results
+    ) {
+    }
+
+    @PostMapping("/bulk")
+    @Transactional
+    @Operation(summary = "글 일괄 작성")
+    public RsData<PostBulkWriteResBody> createItems(
+            @RequestBody List<PostWriteReqBody> reqBodies,
+            MemberPrincipal actor
+    ) {
+        postService.checkBulkWriteSize(reqBodies.size());
+
+        List<RsData<PostDto>> results = new ArrayList<>(reqBodies.size());
+        Member author = memberService.getReferenceById(actor.id());
+        int writtenCount = 0;
+
+        for (PostWriteReqBody reqBody : reqBodies) {
+            Optional<RsData<PostDto>> invalid = requestValidator.validate(reqBody);
+
+            if (invalid.isPresent()) {
+                results.add(invalid.get());
+                continue;
+            }
+
+            Post post = postService.write(author, reqBody.title, reqBody.content);
+            results.add(new RsData<>(
+                    ResultCode.POST_CREATED,
+                    ResultCode.POST_CREATED.msg(post.getId()),
+                    new PostDto(post)
+            ));
+
+            if (++writtenCount % PostService.BULK_CHUNK_SIZE == 0) {
+                postService.flushAndClear();
+                author = memberService.getReferenceById(actor.id());
+            }
+        }
+
+        if (writtenCount == 0) {
+            return new RsData<>(
+                    ResultCode.POSTS_BULK_NONE_CREATED,
+                    ResultCode.POSTS_BULK_NONE_CREATED.msg(),
+                    new PostBulkWriteResBody(results)
+            );
+        }
+
+        return new RsData<>(
+                ResultCode.POSTS_BULK_CREATED,
+                ResultCode.POSTS_BULK_CREATED.msg(reqBodies.size(), writtenCount),
+                new PostBulkWriteResBody(results)
+        );
+    }
+
+
     record PostModifyReqBody(
             @NotBlank
             @Size(min = 2, max = 10)
@@ -122,18 +211,20 @@ public class ApiV1PostController {
     @Operation(summary = "글 수정")
     public RsData<Void> modifyItem(
             @PathVariable Long id,
-            @RequestBody @Valid PostModifyReqBody reqBody
+            @RequestBody @Valid PostModifyReqBody reqBody,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            MemberPrincipal actor
     ) {
 
-        Member actor = rq.getActor();
-
-        Post post = postService.findById(id).get();
-        post.checkActorModify(actor);
+        Post post = postService.findById(id)
+                .orElseThrow(() -> ServiceException.of(ResultCode.NOT_FOUND));
+        post.checkActorModify(actor.id());
+        HttpCache.checkIfMatch(ifMatch, etag(post.getId(), post.getModifyDate(), post.getCommentCount()));
         postService.modify(post, reqBody.title, reqBody.content);
 
         return new RsData(
-                "200-1",
-                "%d번 게시물이 수정되었습니다.".formatted(id)
+                ResultCode.POST_MODIFIED,
+                ResultCode.POST_MODIFIED.msg(id)
         );
     }
 }
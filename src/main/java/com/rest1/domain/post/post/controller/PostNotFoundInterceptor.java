@@ -0,0 +1,78 @@
+package com.rest1.domain.post.post.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.post.post.service.PostService;
+import com.rest1.global.apiObservationConvention.ApiObservationConvention;
+import com.rest1.global.rsData.ResultCode;
+import com.rest1.global.rsData.RsData;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// 글 id 가 경로에 있는 요청 중 확실히 없는 글은 컨트롤러(트랜잭션, DB 조회, 예외 처리)까지 가지 않고 바로 404 로 응답한다.
+// 인증 인터셉터 뒤에 등록해서 인증 실패(401)가 먼저 나가는 순서는 그대로 둔다.
+@Component
+public class PostNotFoundInterceptor implements HandlerInterceptor {
+
+    private final PostService postService;
+    // 응답 본문이 항상 같으므로 한 번만 직렬화해둔다.
+    private final byte[] notFoundBody;
+
+    public PostNotFoundInterceptor(PostService postService, ObjectMapper objectMapper) throws JsonProcessingException {
+        this.postService = postService;
+        this.notFoundBody = objectMapper.writeValueAsBytes(new RsData<Void>(ResultCode.NOT_FOUND));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        Long postId = postIdOf(request);
+
+        if (postId == null || postService.mightExist(postId)) {
+            return true;
+        }
+
+        request.setAttribute(ApiObservationConvention.RESULT_CODE_ATTRIBUTE, ResultCode.NOT_FOUND.getCode());
+        response.setStatus(ResultCode.NOT_FOUND.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(notFoundBody.length);
+        response.getOutputStream().write(notFoundBody);
+
+        return false;
+    }
+
+    // 숫자가 아닌 id 는 컨트롤러의 기존 처리에 맡긴다.
+    @SuppressWarnings("unchecked")
+    private static Long postIdOf(HttpServletRequest request) {
+        Map<String, String> uriVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+        if (uriVariables == null) {
+            return null;
+        }
+
+        String value = uriVariables.containsKey("postId") ? uriVariables.get("postId") : uriVariables.get("id");
+
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.rest1.domain.post.post.dto;
+
+import java.time.LocalDateTime;
+
+public record PostSummaryDto(
+        Long id,
+        LocalDateTime createDate,
+        LocalDateTime modifyDate,
+        String title,
+        Long authorId,
+        String authorName,
+        Long commentCount
+) {
+}
@@ -4,9 +4,12 @@ import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.post.comment.entity.Comment;
 import com.rest1.global.exception.ServiceException;
 import com.rest1.global.jpa.entity.BaseEntity;
+import com.rest1.global.rsData.ResultCode;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +25,13 @@ public class Post extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Member author;
 
+    // PostService 가 UPDATE 문으로 직접 더하고 빼므로, 엔티티를 수정할 때는 이 컬럼을 덮어쓰지 않는다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 댓글 추가/삭제로 글의 버전이 올라가 글 수정과 충돌하지 않게 한다.
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval=true, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
 
@@ -43,32 +53,21 @@ public class Post extends BaseEntity {
         return comment;
     }
 
-    public void deleteComment(Long commentId) {
-        Comment comment = findCommentById(commentId).get();
-        this.comments.remove(comment);
-    }
-
-    public Comment updateComment(Long commentId, String content) {
-        Comment comment = findCommentById(commentId).get();
-        comment.update(content);
-        return comment;
-    }
-
     public Optional<Comment> findCommentById(Long commentId) {
         return comments.stream()
                 .filter(c -> c.getId().equals(commentId))
                 .findFirst();
     }
 
-    public void checkActorModify(Member actor) {
-        if(!this.author.getId().equals(actor.getId())) {
-            throw new ServiceException("403-1", "수정 권한이 없습니다.");
+    public void checkActorModify(Long actorId) {
+        if(!this.author.getId().equals(actorId)) {
+            throw ServiceException.of(ResultCode.POST_MODIFY_FORBIDDEN);
         }
     }
 
-    public void checkActorDelete(Member actor) {
-        if(!this.author.getId().equals(actor.getId())) {
-            throw new ServiceException("403-2", "삭제 권한이 없습니다.");
+    public void checkActorDelete(Long actorId) {
+        if(!this.author.getId().equals(actorId)) {
+            throw ServiceException.of(ResultCode.POST_DELETE_FORBIDDEN);
         }
 
     }
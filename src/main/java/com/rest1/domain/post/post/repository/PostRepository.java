@@ -1,7 +1,77 @@
 package com.rest1.domain.post.post.repository;
 
+import com.rest1.domain.post.post.dto.PostSummaryDto;
 import com.rest1.domain.post.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("""
+            select p
+            from Post p
+            join fetch p.author
+            where p.id = :id
+            """)
+    Optional<Post> findWithAuthorById(Long id);
+
+    @Query("""
+            select new com.rest1.domain.post.post.dto.PostSummaryDto(
+                p.id, p.createDate, p.modifyDate, p.title, a.id, a.nickname, p.commentCount
+            )
+            from Post p
+            join p.author a
+            order by p.id desc
+            """)
+    List<PostSummaryDto> findSummaries(Pageable pageable);
+
+    @Query("""
+            select new com.rest1.domain.post.post.dto.PostSummaryDto(
+                p.id, p.createDate, p.modifyDate, p.title, a.id, a.nickname, p.commentCount
+            )
+            from Post p
+            join p.author a
+            where p.id < :cursor
+            order by p.id desc
+            """)
+    List<PostSummaryDto> findSummariesByIdLessThan(Long cursor, Pageable pageable);
+
+    // 아직 INSERT 되지 않은 새 글에도 반영되도록 먼저 flush 한다.
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Post p
+            set p.commentCount = p.commentCount + :delta
+            where p.id = :id
+            """)
+    int increaseCommentCount(Long id, long delta);
+
+    @Query("""
+            select max(p.id)
+            from Post p
+            """)
+    Optional<Long> findMaxId();
+
+    @Query("""
+            select p.id
+            from Post p
+            where p.id between :fromId and :toId
+            """)
+    List<Long> findIdsBetween(Long fromId, Long toId);
+
+    // 구간마다 따로 커밋되도록 트랜잭션을 메서드에 둔다.
+    @Modifying
+    @Transactional
+    @Query("""
+            update Post p
+            set p.commentCount = (select count(c) from Comment c where c.post = p)
+            where p.id between :fromId and :toId
+            and p.commentCount <> (select count(c) from Comment c where c.post = p)
+            """)
+    int reconcileCommentCounts(Long fromId, Long toId);
 }
@@ -0,0 +1,22 @@
+package com.rest1.domain.post.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 댓글 수 컬럼이 실제 댓글 개수와 어긋난 글을 주기적으로 바로잡는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileJob {
+
+    private final PostService postService;
+
+    @Scheduled(cron = "${custom.post.commentCountReconcileCron}")
+    public void run() {
+        int reconciledCount = postService.reconcileCommentCounts();
+
+        log.info("댓글 수 재계산 완료, 보정된 글 수: {}", reconciledCount);
+    }
+}
@@ -0,0 +1,126 @@
+package com.rest1.domain.post.post.service;
+
+import com.rest1.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 존재하는 글 id 를 비트셋으로 들고 있다가, 확실히 없는 id 는 DB 조회 없이 걸러낸다.
+// 없는 글을 있다고 하는 건 괜찮지만(DB 에서 다시 확인) 있는 글을 없다고 하면 안 되므로
+// 추가는 바로, 삭제는 커밋된 뒤에 반영한다.
+// 단, 이 인스턴스의 PostService.write 로 작성했거나 기동 시 적재한 글만 안다.
+// 다른 인스턴스나 직접 INSERT 로 생긴 글은 없다고 판단하므로 custom.post.idIndexEnabled 는 단일 인스턴스에서만 켠다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIdIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 10_000;
+
+    private final PostRepository postRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet ids = new BitSet();
+    // 적재가 끝나기 전에는 모든 id 를 있을 수 있다고 본다.
+    private volatile boolean loaded = false;
+
+    @Value("${custom.post.idIndexEnabled}")
+    private boolean enabled;
+
+    // 초기 데이터 생성(ApplicationRunner)이 끝난 뒤에 적재한다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+
+        long maxId = postRepository.findMaxId().orElse(0L);
+
+        for (long fromId = 1; fromId <= maxId; fromId += LOAD_CHUNK_SIZE) {
+            postRepository.findIdsBetween(fromId, fromId + LOAD_CHUNK_SIZE - 1)
+                    .forEach(this::add);
+        }
+
+        loaded = true;
+
+        log.info("글 id 인덱스 적재 완료, 글 수: {}", cardinality());
+    }
+
+    public boolean mightExist(Long id) {
+        if (!enabled || !loaded || id > Integer.MAX_VALUE) {
+            return true;
+        }
+
+        if (id < 1) {
+            return false;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            return ids.get(id.intValue());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(Long id) {
+        if (!enabled || id > Integer.MAX_VALUE) {
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            ids.set(id.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(id);
+            }
+        });
+    }
+
+    private void remove(Long id) {
+        if (!enabled || id > Integer.MAX_VALUE) {
+            return;
+        }
+
+        lock.writeLock().lock();
+
+        try {
+            ids.clear(id.intValue());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int cardinality() {
+        lock.readLock().lock();
+
+        try {
+            return ids.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -1,10 +1,25 @@
 package com.rest1.domain.post.post.service;
 
 import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.post.comment.dto.CommentDto;
 import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.comment.repository.CommentRepository;
+import com.rest1.domain.post.post.dto.PostDto;
+import com.rest1.domain.post.post.dto.PostSummaryDto;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.repository.PostRepository;
+import com.rest1.global.cacheConfig.CacheConfig;
+import com.rest1.global.cursorPage.CursorPage;
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,47 +29,179 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class PostService {
 
+    public static final int BULK_WRITE_MAX_SIZE = 500;
+    // hibernate.jdbc.batch_size 와 맞춘다.
+    public static final int BULK_CHUNK_SIZE = 100;
+    public static final int RECONCILE_CHUNK_SIZE = 1_000;
+
     private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final PostIdIndex postIdIndex;
 
     public Post write(Member author, String title, String content) {
         Post post = new Post(author, title, content);
+        postRepository.save(post);
+        postIdIndex.add(post.getId());
 
-        return postRepository.save(post);
+        return post;
     }
 
     public long count() {
         return postRepository.count();
     }
 
+    public boolean existsById(Long id) {
+        return postRepository.existsById(id);
+    }
+
+    // false 면 확실히 없는 글이다. true 면 DB 에서 다시 확인해야 한다.
+    public boolean mightExist(Long id) {
+        return postIdIndex.mightExist(id);
+    }
+
     public Optional<Post> findById(Long id) {
         return postRepository.findById(id);
     }
 
+    public Post getReferenceById(Long id) {
+        return postRepository.getReferenceById(id);
+    }
+
+    public Optional<Post> findWithAuthorById(Long id) {
+        return postRepository.findWithAuthorById(id);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#id", unless = "#result == null")
+    public Optional<PostDto> findPostDtoById(Long id) {
+        return postRepository.findWithAuthorById(id).map(PostDto::new);
+    }
+
     public List<Post> findAll() {
         return postRepository.findAll();
     }
 
+    public List<PostSummaryDto> findSummaries(Long cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (cursor == null) {
+            return postRepository.findSummaries(pageable);
+        }
+
+        return postRepository.findSummariesByIdLessThan(cursor, pageable);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#post.id")
     public void modify(Post post, String title, String content) {
         post.update(title, content);
     }
 
+    public List<CommentDto> findCommentDtos(Long postId, Long cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+
+        if (cursor == null) {
+            return commentRepository.findDtosByPostId(postId, pageable);
+        }
+
+        return commentRepository.findDtosByPostIdAndIdLessThan(postId, cursor, pageable);
+    }
+
+    // 첫 페이지는 최대 크기로 조회해 캐시해두고, 요청한 크기만큼 잘라서 쓴다.
+    @Cacheable(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#postId", unless = "#result.isEmpty()")
+    public List<CommentDto> findLatestCommentDtos(Long postId) {
+        Pageable pageable = PageRequest.of(0, CursorPage.MAX_SIZE + 1);
+
+        return List.copyOf(commentRepository.findDtosByPostId(postId, pageable));
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#post.id"),
+            @CacheEvict(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#post.id")
+    })
     public Comment writeComment(Member author, Post post, String content) {
-        return post.addComment(author, content);
+        Comment comment = post.addComment(author, content);
+        postRepository.increaseCommentCount(post.getId(), 1);
+
+        return comment;
+    }
+
+    // post.comments 를 거치지 않고 바로 저장한다. 글 프록시와 댓글 컬렉션이 초기화되지 않는다.
+    // 댓글 수는 호출하는 쪽에서 increaseCommentCount 로 한 번에 반영한다.
+    @CacheEvict(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#post.id")
+    public Comment saveComment(Member author, Post post, String content) {
+        return commentRepository.save(new Comment(author, content, post));
     }
 
-    public void deleteComment(Post post, Long commentId) {
-        post.deleteComment(commentId);
+    @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#postId")
+    public void increaseCommentCount(Long postId, long delta) {
+        postRepository.increaseCommentCount(postId, delta);
     }
 
-    public void modifyComment(Post post, Long commentId, String content) {
-        post.updateComment(commentId, content);
+    public Optional<Comment> findCommentById(Long postId, Long commentId) {
+        return commentRepository.findByPostIdAndId(postId, commentId);
     }
 
+    // post.comments 를 로딩하지 않고 한 건만 지운다.
+    // 조회 이후 다른 요청이 수정했다면 지워지는 행이 없으므로 낙관적 락 실패로 처리한다.
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#comment.post.id"),
+            @CacheEvict(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#comment.post.id")
+    })
+    public void deleteComment(Comment comment) {
+        int deletedCount = commentRepository.deleteByPostIdAndIdAndVersion(
+                comment.getPost().getId(),
+                comment.getId(),
+                comment.getVersion()
+        );
+
+        if (deletedCount == 0) {
+            throw new ObjectOptimisticLockingFailureException(Comment.class, comment.getId());
+        }
+
+        postRepository.increaseCommentCount(comment.getPost().getId(), -1);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#comment.post.id")
+    public void modifyComment(Comment comment, String content) {
+        comment.update(content);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, key = "#post.id"),
+            @CacheEvict(cacheNames = CacheConfig.COMMENT_DTOS_BY_POST_ID, key = "#post.id")
+    })
     public void delete(Post post) {
         postRepository.delete(post);
+        postIdIndex.removeAfterCommit(post.getId());
+    }
+
+    // 댓글 수를 실제 댓글 개수로 다시 맞춘다.
+    // 글 id 구간마다 따로 커밋해서 한 번에 많은 행을 잠그지 않는다.
+    @CacheEvict(cacheNames = CacheConfig.POST_DTO_BY_ID, allEntries = true)
+    public int reconcileCommentCounts() {
+        long maxId = postRepository.findMaxId().orElse(0L);
+        int reconciledCount = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += RECONCILE_CHUNK_SIZE) {
+            reconciledCount += postRepository.reconcileCommentCounts(fromId, fromId + RECONCILE_CHUNK_SIZE - 1);
+        }
+
+        return reconciledCount;
     }
 
     public void flush() {
         postRepository.flush();
     }
+
+    public void checkBulkWriteSize(int size) {
+        if (size < 1 || size > BULK_WRITE_MAX_SIZE) {
+            throw new ServiceException(ResultCode.BULK_SIZE_OUT_OF_RANGE, BULK_WRITE_MAX_SIZE);
+        }
+    }
+
+    // 일괄 작성 중 영속성 컨텍스트가 계속 커지지 않도록 청크마다 비운다.
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
 }
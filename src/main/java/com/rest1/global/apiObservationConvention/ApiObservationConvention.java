@@ -0,0 +1,53 @@
+package com.rest1.global.apiObservationConvention;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// http.server.requests 타이머에 컨트롤러 메서드와 RsData 결과 코드 태그를 더한다.
+// 두 값 모두 종류가 정해져 있어 태그 조합이 무한히 늘어나지 않는다.
+@Component
+public class ApiObservationConvention extends DefaultServerRequestObservationConvention {
+
+    // RsData 를 응답한 쪽에서 결과 코드를 이 속성에 남긴다.
+    public static final String RESULT_CODE_ATTRIBUTE = ApiObservationConvention.class.getName() + ".resultCode";
+
+    private static final String NONE = "none";
+
+    private final Map<Method, String> handlerNames = new ConcurrentHashMap<>();
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        HttpServletRequest request = context.getCarrier();
+
+        return super.getLowCardinalityKeyValues(context)
+                .and(
+                        KeyValue.of("handler", handlerName(request)),
+                        KeyValue.of("result.code", resultCode(request))
+                );
+    }
+
+    private String handlerName(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod)) {
+            return NONE;
+        }
+
+        return handlerNames.computeIfAbsent(
+                handlerMethod.getMethod(),
+                method -> handlerMethod.getBeanType().getSimpleName() + "#" + method.getName()
+        );
+    }
+
+    private static String resultCode(HttpServletRequest request) {
+        return request.getAttribute(RESULT_CODE_ATTRIBUTE) instanceof String resultCode ? resultCode : NONE;
+    }
+}
@@ -0,0 +1,60 @@
+package com.rest1.global.cacheConfig;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MEMBER_PRINCIPAL_BY_API_KEY = "memberPrincipalByApiKey";
+    public static final String POST_DTO_BY_ID = "postDtoById";
+    public static final String COMMENT_DTOS_BY_POST_ID = "commentDtosByPostId";
+
+    @Value("${custom.cache.memberPrincipalByApiKey}")
+    private String memberPrincipalByApiKeySpec;
+
+    @Value("${custom.cache.postDtoById}")
+    private String postDtoByIdSpec;
+
+    @Value("${custom.cache.commentDtosByPostId}")
+    private String commentDtosByPostIdSpec;
+
+    @Value("${custom.cache.evictAgainDelay}")
+    private Duration evictAgainDelay;
+
+    @Bean
+    public CacheManager cacheManager() {
+        // 등록한 캐시만 쓴다. 등록하지 않은 이름으로 크기 제한 없는 캐시가 생기지 않는다.
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                buildCache(MEMBER_PRINCIPAL_BY_API_KEY, memberPrincipalByApiKeySpec),
+                buildCache(POST_DTO_BY_ID, postDtoByIdSpec),
+                buildCache(COMMENT_DTOS_BY_POST_ID, commentDtosByPostIdSpec)
+        ));
+
+        return cacheManager;
+    }
+
+    // 무효화는 트랜잭션 커밋 이후에 반영하고, 잠시 뒤 한 번 더 한다.
+    private Cache buildCache(String name, String spec) {
+        CaffeineCache cache = new CaffeineCache(
+                name,
+                Caffeine.from(spec)
+                        .recordStats()
+                        .build()
+        );
+
+        return new DelayedEvictCacheDecorator(cache, evictAgainDelay);
+    }
+}
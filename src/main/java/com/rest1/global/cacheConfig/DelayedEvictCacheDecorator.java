@@ -0,0 +1,50 @@
+package com.rest1.global.cacheConfig;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// 무효화는 커밋 이후에 한 번, 일정 시간 뒤에 한 번 더 한다.
+// 커밋 전에 DB 를 읽은 조회가 커밋 후 무효화보다 늦게 캐시에 넣으면 지난 값이 TTL 까지 남는다.
+// 두 번째 무효화로 그 값을 지운다. 조회가 지연 시간보다 오래 걸리면 여전히 TTL 까지 남을 수 있다.
+public class DelayedEvictCacheDecorator extends TransactionAwareCacheDecorator {
+
+    private final Executor delayedExecutor;
+
+    public DelayedEvictCacheDecorator(Cache targetCache, Duration evictAgainDelay) {
+        super(targetCache);
+        this.delayedExecutor = CompletableFuture.delayedExecutor(evictAgainDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        evictAgainAfterCommit(() -> getTargetCache().evict(key));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        evictAgainAfterCommit(() -> getTargetCache().clear());
+    }
+
+    private void evictAgainAfterCommit(Runnable evict) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delayedExecutor.execute(evict);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delayedExecutor.execute(evict);
+            }
+        });
+    }
+}
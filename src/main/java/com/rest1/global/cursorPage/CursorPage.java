@@ -0,0 +1,31 @@
+package com.rest1.global.cursorPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> items,
+        Long nextCursor
+) {
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public static int normalizeSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+
+        return Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    // rows 는 size + 1 개 이상 조회한 결과, size 를 넘치는 행으로 다음 페이지 존재 여부를 판단
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idGetter) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> items = List.copyOf(rows.subList(0, size));
+
+        return new CursorPage<>(items, idGetter.apply(items.getLast()));
+    }
+}
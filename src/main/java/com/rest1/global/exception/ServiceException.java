@@ -1,21 +1,68 @@
 package com.rest1.global.exception;
 
+import com.rest1.global.rsData.ResultCode;
+
+// 권한 없음, 중복 아이디처럼 예상된 흐름에서 던지는 예외
+// 응답 코드와 메시지만 쓰이므로 기본은 스택 트레이스를 채우지 않고, 메시지도 필요할 때 한 번만 만든다.
+// 디버깅할 때는 custom.exception.stackTrace=true 로 스택 트레이스를 다시 켤 수 있다.
 public class ServiceException extends RuntimeException {
 
-    private String resultCode;
+    private static volatile boolean stackTraceEnabled = false;
+
+    // 메시지 인자가 없는 코드는 스택 트레이스가 꺼져 있으면 인스턴스를 하나만 만들어 재사용한다.
+    private static final ServiceException[] CACHED = new ServiceException[ResultCode.values().length];
+
+    private final ResultCode resultCode;
+    private final Object[] msgArgs;
     private String msg;
 
-    public ServiceException(String resultCode, String msg) {
-        super("%s : %s".formatted(resultCode, msg));
+    public ServiceException(ResultCode resultCode, Object... msgArgs) {
+        this(resultCode, msgArgs, stackTraceEnabled);
+    }
+
+    private ServiceException(ResultCode resultCode, Object[] msgArgs, boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
         this.resultCode = resultCode;
-        this.msg = msg;
+        this.msgArgs = msgArgs;
     }
 
-    public String getResultCode() {
+    public static ServiceException of(ResultCode resultCode) {
+        if (stackTraceEnabled) {
+            return new ServiceException(resultCode);
+        }
+
+        ServiceException cached = CACHED[resultCode.ordinal()];
+
+        if (cached == null) {
+            cached = new ServiceException(resultCode, new Object[0], false);
+            CACHED[resultCode.ordinal()] = cached;
+        }
+
+        return cached;
+    }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    public ResultCode getResultCode() {
         return resultCode;
     }
 
     public String getMsg() {
+        if (msg == null) {
+            msg = resultCode.msg(msgArgs);
+        }
+
         return msg;
     }
+
+    @Override
+    public String getMessage() {
+        return "%s : %s".formatted(resultCode.getCode(), getMsg());
+    }
 }
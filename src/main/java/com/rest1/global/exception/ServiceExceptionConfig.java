@@ -0,0 +1,27 @@
+package com.rest1.global.exception;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+
+// ServiceException 은 정적 메서드(of)나 생성자로 바로 만들기 때문에 설정을 주입할 수 없어 JVM 전역 값에 옮겨둔다.
+// 애플리케이션에는 컨텍스트가 하나뿐이다. 테스트에서 설정이 다른 컨텍스트를 띄웠다면 닫을 때 이전 값으로 되돌린다.
+@Configuration
+@RequiredArgsConstructor
+public class ServiceExceptionConfig implements InitializingBean, DisposableBean {
+
+    private final ServiceExceptionProperties serviceExceptionProperties;
+    private boolean previousStackTraceEnabled;
+
+    @Override
+    public void afterPropertiesSet() {
+        previousStackTraceEnabled = ServiceException.isStackTraceEnabled();
+        ServiceException.setStackTraceEnabled(serviceExceptionProperties.stackTrace());
+    }
+
+    @Override
+    public void destroy() {
+        ServiceException.setStackTraceEnabled(previousStackTraceEnabled);
+    }
+}
@@ -0,0 +1,10 @@
+package com.rest1.global.exception;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// stackTrace 를 켜면 ServiceException 이 스택 트레이스를 채우고, 인스턴스도 매번 새로 만든다.
+@ConfigurationProperties(prefix = "custom.exception")
+public record ServiceExceptionProperties(
+        boolean stackTrace
+) {
+}
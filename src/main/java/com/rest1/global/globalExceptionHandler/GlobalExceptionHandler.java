@@ -1,17 +1,18 @@
 package com.rest1.global.globalExceptionHandler;
 
 import com.rest1.global.exception.ServiceException;
+import com.rest1.global.requestValidator.RequestValidator;
+import com.rest1.global.rsData.ResultCode;
 import com.rest1.global.rsData.RsData;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 
-import java.util.Comparator;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,26 +20,16 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(NoSuchElementException.class)
     @ResponseBody
     public RsData<Void> handleException(NoSuchElementException e){
-        return new RsData<Void>(
-                "404-1",
-                "존재하지 않는 데이터입니다."
-        );
+        return new RsData<Void>(ResultCode.NOT_FOUND);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseBody
     public RsData<Void> handleException(MethodArgumentNotValidException e) {
-        String message = e.getBindingResult()
-                .getAllErrors()
-                .stream()
-                .filter(error -> error instanceof FieldError)
-                .map(error -> (FieldError) error)
-                .map(error -> error.getField() + "-" + error.getCode() + "-" + error.getDefaultMessage())
-                .sorted(Comparator.comparing(String::toString))
-                .collect(Collectors.joining("\n"));
+        String message = RequestValidator.toMessage(e.getBindingResult());
 
         return new RsData<Void>(
-                "400-1",
+                ResultCode.VALIDATION_FAILED,
                 message
         );
     }
@@ -46,10 +37,14 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     @ResponseBody
     public RsData<Void> handleException(HttpMessageNotReadableException e) {
-        return new RsData<Void>(
-                "400-2",
-                "잘못된 형식의 요청 데이터입니다."
-        );
+        return new RsData<Void>(ResultCode.BAD_REQUEST_BODY);
+    }
+
+    // 커밋 시점에 스프링이 변환한 예외와, 직접 flush 하다 난 JPA 예외를 모두 받는다.
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    @ResponseBody
+    public RsData<Void> handleOptimisticLockException(RuntimeException e) {
+        return new RsData<Void>(ResultCode.CONCURRENT_MODIFICATION);
     }
 
     @ExceptionHandler(ServiceException.class)
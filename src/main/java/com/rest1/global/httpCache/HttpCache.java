@@ -0,0 +1,49 @@
+package com.rest1.global.httpCache;
+
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+// 조건부 GET(If-None-Match / If-Modified-Since) 처리
+// true 면 컨트롤러는 본문 없이 null 을 반환하고, 스프링이 304 로 응답한다.
+public class HttpCache {
+
+    public static boolean checkNotModified(WebRequest webRequest, String etag, LocalDateTime lastModified) {
+        long lastModifiedMillis = lastModified
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        return webRequest.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    // 목록은 삭제되어도, 글은 댓글 수가 바뀌어도 최종 수정일이 바뀌지 않으므로 ETag 만 쓴다.
+    public static boolean checkNotModified(WebRequest webRequest, String etag) {
+        return webRequest.checkNotModified(etag);
+    }
+
+    // If-Match 가 있으면 현재 ETag 와 같을 때만 수정/삭제를 진행한다. (약한 ETag 는 일치로 보지 않는다.)
+    public static void checkIfMatch(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+
+        boolean matched = Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+
+        if (!matched) {
+            throw ServiceException.of(ResultCode.PRECONDITION_FAILED);
+        }
+    }
+
+    public static String hashEtag(String source) {
+        return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -10,8 +10,12 @@ import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.transaction.annotation.Transactional;
 
+// 개발/테스트용 샘플 데이터. 운영 DB 에 system/admin 계정이 만들어지지 않도록 prod 에서는 실행하지 않는다.
+@Profile("!prod")
 @Configuration
 @RequiredArgsConstructor
 public class BaseInitData {
@@ -23,6 +27,7 @@ public class BaseInitData {
     private final MemberService memberService;
 
     @Bean
+    @Order(0)
     ApplicationRunner initDataRunner() {
         return args -> {
 
@@ -61,10 +66,10 @@ public class BaseInitData {
         Post post2 = postService.write(member1, "제목2", "내용2");
         Post post3 = postService.write(member2, "제목3", "내용3");
 
-        post1.addComment(member1, "댓글 1-1");
-        post1.addComment(member1, "댓글 1-2");
-        post1.addComment(member1, "댓글 1-3");
-        post2.addComment(member2, "댓글 2-1");
-        post2.addComment(member2, "댓글 2-2");
+        postService.writeComment(member1, post1, "댓글 1-1");
+        postService.writeComment(member1, post1, "댓글 1-2");
+        postService.writeComment(member1, post1, "댓글 1-3");
+        postService.writeComment(member2, post2, "댓글 2-1");
+        postService.writeComment(member2, post2, "댓글 2-2");
     }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.rest1.global.initData;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// 부하 테스트용 대량 데이터 생성 (load 프로필)
+// 수백만 건을 엔티티로 저장하면 너무 느리므로 JDBC 배치로 직접 넣는다.
+// id 는 각 엔티티 시퀀스에서 구간을 받아 쓰고, 끝나면 시퀀스를 그 뒤로 옮겨 이후 JPA 저장과 겹치지 않게 한다.
+@Slf4j
+@Profile("load")
+@Configuration
+@RequiredArgsConstructor
+public class LoadInitData {
+
+    private static final int CHUNK_SIZE = 10_000;
+    // 같은 데이터가 만들어지도록 시드를 고정한다.
+    private static final long RANDOM_SEED = 42;
+
+    private final LoadSeedProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.jpa.idAllocationSize}")
+    private int idAllocationSize;
+
+    // 기본 데이터(BaseInitData) 이후에 실행한다.
+    @Bean
+    @Order(1)
+    ApplicationRunner loadInitDataRunner() {
+        return args -> seed();
+    }
+
+    private void seed() {
+        Long postCount = jdbcTemplate.queryForObject("select count(*) from post", Long.class);
+
+        if (postCount != null && postCount >= properties.posts()) {
+            log.info("부하 테스트 데이터가 이미 있습니다. 글 수: {}", postCount);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long memberStartId = seedMembers(now);
+        int[] commentCounts = distributeComments(random);
+        long postStartId = seedPosts(now, random, memberStartId, commentCounts);
+        seedComments(now, random, memberStartId, postStartId, commentCounts);
+
+        log.info(
+                "부하 테스트 데이터 생성 완료, 회원 {}명, 글 {}건(핫 글 id {}~{}), 댓글 {}건, {}초",
+                properties.members(),
+                properties.posts(),
+                postStartId + properties.posts() - properties.hotPosts(),
+                postStartId + properties.posts() - 1,
+                properties.comments(),
+                (System.currentTimeMillis() - startedAt) / 1000
+        );
+    }
+
+    // 아이디 load1, load2 ... 비밀번호 1234
+    private long seedMembers(Timestamp now) {
+        long startId = reserveIds("member_seq", properties.members());
+        List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < properties.members(); i++) {
+            long id = startId + i;
+            rows.add(new Object[]{id, now, now, 0L, "load" + (i + 1), "1234", "부하" + (i + 1), UUID.randomUUID().toString()});
+
+            if (rows.size() == CHUNK_SIZE) {
+                insert("insert into member (id, create_date, modify_date, version, username, password, nickname, api_key) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+            }
+        }
+
+        insert("insert into member (id, create_date, modify_date, version, username, password, nickname, api_key) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        return startId;
+    }
+
+    // 글마다 댓글 수를 먼저 정해두고, 글의 comment_count 와 실제 댓글 수가 맞게 넣는다.
+    // 마지막 hotPosts 개의 글(가장 최근 글)이 전체 댓글의 hotCommentRatio 를 나눠 갖는다.
+    private int[] distributeComments(SplittableRandom random) {
+        int[] commentCounts = new int[properties.posts()];
+        int hotPosts = Math.min(properties.hotPosts(), properties.posts());
+        long hotComments = hotPosts == 0 ? 0 : (long) (properties.comments() * properties.hotCommentRatio());
+
+        for (int i = 0; i < hotPosts; i++) {
+            commentCounts[properties.posts() - 1 - i] = (int) (hotComments / hotPosts);
+        }
+
+        long assigned = hotPosts == 0 ? 0 : hotComments / hotPosts * hotPosts;
+
+        for (long i = assigned; i < properties.comments(); i++) {
+            commentCounts[random.nextInt(properties.posts())]++;
+        }
+
+        return commentCounts;
+    }
+
+    private long seedPosts(Timestamp now, SplittableRandom random, long memberStartId, int[] commentCounts) {
+        long startId = reserveIds("post_seq", properties.posts());
+        List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < properties.posts(); i++) {
+            long id = startId + i;
+            long authorId = memberStartId + random.nextInt(properties.members());
+            rows.add(new Object[]{id, now, now, 0L, "제목" + id, "내용" + id, authorId, (long) commentCounts[i]});
+
+            if (rows.size() == CHUNK_SIZE) {
+                insert("insert into post (id, create_date, modify_date, version, title, content, author_id, comment_count) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                logProgress("글", i + 1, properties.posts());
+            }
+        }
+
+        insert("insert into post (id, create_date, modify_date, version, title, content, author_id, comment_count) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        return startId;
+    }
+
+    private void seedComments(Timestamp now, SplittableRandom random, long memberStartId, long postStartId, int[] commentCounts) {
+        long startId = reserveIds("comment_seq", properties.comments());
+        long id = startId;
+        List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+
+        for (int i = 0; i < commentCounts.length; i++) {
+            long postId = postStartId + i;
+
+            for (int j = 0; j < commentCounts[i]; j++) {
+                long authorId = memberStartId + random.nextInt(properties.members());
+                rows.add(new Object[]{id, now, now, 0L, "댓글" + id, postId, authorId});
+                id++;
+
+                if (rows.size() == CHUNK_SIZE) {
+                    insert("insert into comment (id, create_date, modify_date, version, content, post_id, author_id) values (?, ?, ?, ?, ?, ?, ?)", rows);
+                    logProgress("댓글", id - startId, properties.comments());
+                }
+            }
+        }
+
+        insert("insert into comment (id, create_date, modify_date, version, content, post_id, author_id) values (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    // 시퀀스에서 다음 값을 받아 거기서부터 count 개를 쓰고, 시퀀스는 그 다음 값부터 다시 시작하게 한다.
+    // pooled-lo 는 시퀀스 값 v 를 받으면 v ~ v + 증가값 - 1 을 쓰므로, 이미 JPA 가 받아간 구간(현재 값 이전)과는 겹치지 않는다.
+    // 시퀀스 증가값이 할당 단위(custom.jpa.idAllocationSize)와 다르면 이 계산이 맞지 않으므로 먼저 확인한다.
+    private long reserveIds(String sequenceName, long count) {
+        checkSequenceIncrement(sequenceName);
+
+        return transactionTemplate.execute(status -> {
+            Long startId = jdbcTemplate.queryForObject("select next value for " + sequenceName, Long.class);
+            jdbcTemplate.execute("alter sequence %s restart with %d".formatted(sequenceName, startId + count));
+
+            return startId;
+        });
+    }
+
+    private void checkSequenceIncrement(String sequenceName) {
+        Long increment = jdbcTemplate.queryForObject(
+                "select \"INCREMENT\" from information_schema.sequences where sequence_name = ?",
+                Long.class,
+                sequenceName.toUpperCase()
+        );
+
+        if (increment == null || increment != idAllocationSize) {
+            throw new IllegalStateException(
+                    "%s 의 증가값(%s)이 custom.jpa.idAllocationSize(%d)와 다릅니다.".formatted(sequenceName, increment, idAllocationSize)
+            );
+        }
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        rows.clear();
+    }
+
+    private static void logProgress(String name, long done, long total) {
+        if (done % (CHUNK_SIZE * 50L) == 0) {
+            log.info("{} {}/{}", name, done, total);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.rest1.global.initData;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// load 프로필에서 만들 데이터 규모
+// 전체 댓글 중 hotCommentRatio 만큼을 가장 최근 글 hotPosts 개에 몰아서 댓글 수가 매우 많은 글을 만든다.
+@ConfigurationProperties(prefix = "custom.load.seed")
+public record LoadSeedProperties(
+        int members,
+        int posts,
+        long comments,
+        int hotPosts,
+        double hotCommentRatio
+) {
+}
@@ -1,9 +1,9 @@
 package com.rest1.global.jpa.entity;
 
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    // 엔티티별 시퀀스(post_seq 등)를 할당 단위로 미리 받아와 INSERT 를 JDBC 배치로 묶을 수 있게 한다.
+    @PooledSequence
     private Long id;
 
     @CreatedDate
@@ -26,4 +27,8 @@ public abstract class BaseEntity {
     @LastModifiedDate
     private LocalDateTime modifyDate;
 
+    // 동시에 수정하면 나중에 커밋하는 쪽이 낙관적 락 예외로 실패한다.
+    @Version
+    private Long version;
+
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.rest1.global.jpa.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+// 엔티티별 시퀀스(post_seq 등)에서 custom.jpa.idAllocationSize 개씩 id 를 받아온다.
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface PooledSequence {
+}
@@ -0,0 +1,29 @@
+package com.rest1.global.jpa.entity;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+// 어노테이션 속성에는 스프링 설정을 넣을 수 없어서, 할당 단위를 하이버네이트 설정(spring.jpa.properties)에서 읽는다.
+// 시퀀스 이름과 최적화 방식(pooled-lo)은 기본 SequenceStyleGenerator 와 같다.
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "custom.id_allocation_size";
+
+    private final int allocationSize;
+
+    public PooledSequenceGenerator(PooledSequence config, Member member, GeneratorCreationContext context) {
+        this.allocationSize = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_INCREMENT_SIZE);
+    }
+
+    @Override
+    protected int determineIncrementSize(Properties params) {
+        return allocationSize;
+    }
+}
@@ -0,0 +1,93 @@
+package com.rest1.global.rateLimiter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// 키(아이디, IP 등)별 토큰 버킷
+// 버킷 상태는 CAS 로만 갱신해 락이 없다.
+// 버킷은 Caffeine 캐시에 두고 최대 개수를 정해 메모리를 제한한다.
+// 가득 찰 만큼 쉬었던 버킷은 새 버킷과 같으므로, 그 시간 동안 접근이 없으면 만료시켜도 잃는 상태가 없다.
+public class RateLimiter {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Bucket> buckets;
+
+    public RateLimiter(Limit limit, long maxKeys) {
+        this(limit, maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(Limit limit, long maxKeys, LongSupplier nanoClock) {
+        this.capacity = limit.capacity();
+        this.tokensPerNano = (double) limit.refillPerMinute() / Duration.ofMinutes(1).toNanos();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos((long) Math.ceil(capacity / tokensPerNano)))
+                .build();
+    }
+
+    // capacity 개까지 한 번에 쓸 수 있고, 1분에 refillPerMinute 개씩 다시 찬다.
+    public record Limit(
+            int capacity,
+            int refillPerMinute
+    ) {
+    }
+
+    private record State(
+            double tokens,
+            long refilledAt
+    ) {
+    }
+
+    private static class Bucket {
+        private final AtomicReference<State> state;
+
+        Bucket(long capacity, long now) {
+            this.state = new AtomicReference<>(new State(capacity, now));
+        }
+    }
+
+    // 토큰이 있으면 하나 쓰고 true
+    public boolean tryAcquire(String key) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(capacity, nanoClock.getAsLong()));
+
+        while (true) {
+            State current = bucket.state.get();
+            State refilled = refill(current, nanoClock.getAsLong());
+
+            if (refilled.tokens() < 1) {
+                return false;
+            }
+
+            State next = new State(refilled.tokens() - 1, refilled.refilledAt());
+
+            if (bucket.state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // 토큰을 쓰지 않고 남아 있는지만 본다. 실패했을 때만 tryAcquire 로 차감하는 경우에 쓴다.
+    public boolean hasToken(String key) {
+        Bucket bucket = buckets.getIfPresent(key);
+
+        if (bucket == null) {
+            return true;
+        }
+
+        return refill(bucket.state.get(), nanoClock.getAsLong()).tokens() >= 1;
+    }
+
+    private State refill(State state, long now) {
+        long elapsed = Math.max(0, now - state.refilledAt());
+        double tokens = Math.min(capacity, state.tokens() + elapsed * tokensPerNano);
+
+        return new State(tokens, Math.max(now, state.refilledAt()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.rest1.global.requestValidator;
+
+import com.rest1.global.rsData.ResultCode;
+import com.rest1.global.rsData.RsData;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 일괄 요청처럼 @Valid 를 쓸 수 없는 곳에서 항목별로 검증한다.
+@Component
+public class RequestValidator {
+
+    private final SpringValidatorAdapter validator;
+
+    public RequestValidator(Validator validator) {
+        this.validator = new SpringValidatorAdapter(validator);
+    }
+
+    // 검증에 실패하면 GlobalExceptionHandler 와 같은 코드와 메시지의 결과를 돌려준다.
+    public <T> Optional<RsData<T>> validate(Object target) {
+        if (target == null) {
+            return Optional.of(new RsData<>(ResultCode.BAD_REQUEST_BODY));
+        }
+
+        DataBinder binder = new DataBinder(target, "reqBody");
+        binder.setValidator(validator);
+        binder.validate();
+
+        BindingResult bindingResult = binder.getBindingResult();
+
+        if (!bindingResult.hasErrors()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new RsData<>(
+                ResultCode.VALIDATION_FAILED,
+                toMessage(bindingResult)
+        ));
+    }
+
+    public static String toMessage(BindingResult bindingResult) {
+        return bindingResult
+                .getAllErrors()
+                .stream()
+                .filter(error -> error instanceof FieldError)
+                .map(error -> (FieldError) error)
+                .map(error -> error.getField() + "-" + error.getCode() + "-" + error.getDefaultMessage())
+                .sorted(Comparator.comparing(String::toString))
+                .collect(Collectors.joining("\n"));
+    }
+}
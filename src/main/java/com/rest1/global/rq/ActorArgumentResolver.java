@@ -0,0 +1,33 @@
+package com.rest1.global.rq;
+
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// 컨트롤러 메서드의 MemberPrincipal 파라미터에 인증된 사용자를 주입한다.
+@Component
+@RequiredArgsConstructor
+public class ActorArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final Rq rq;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == MemberPrincipal.class;
+    }
+
+    @Override
+    public Object resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        return rq.getPrincipal();
+    }
+}
@@ -0,0 +1,61 @@
+package com.rest1.global.rq;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+// 공개 경로는 인증 작업을 전혀 하지 않고, 보호 경로는 요청 본문을 읽기 전에 인증부터 확인한다.
+@Component
+@RequiredArgsConstructor
+public class AuthInterceptor implements HandlerInterceptor {
+
+    private static final List<Route> PUBLIC_ROUTES = List.of(
+            Route.of(HttpMethod.GET, "/api/v1/posts/**"),
+            Route.of(HttpMethod.POST, "/api/v1/members/join"),
+            Route.of(HttpMethod.POST, "/api/v1/members/login")
+    );
+
+    private final Rq rq;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod) || isPublic(request)) {
+            return true;
+        }
+
+        rq.getPrincipal();
+
+        return true;
+    }
+
+    private boolean isPublic(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length())
+        );
+
+        return PUBLIC_ROUTES.stream()
+                .anyMatch(route -> route.matches(request.getMethod(), path));
+    }
+
+    private record Route(
+            HttpMethod method,
+            PathPattern pattern
+    ) {
+        static Route of(HttpMethod method, String pattern) {
+            return new Route(method, PathPatternParser.defaultInstance.parse(pattern));
+        }
+
+        boolean matches(String method, PathContainer path) {
+            return this.method.matches(method) && pattern.matches(path);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.rest1.global.rq;
 
-import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import com.rest1.domain.member.member.service.AuthRateLimiter;
+import com.rest1.domain.member.member.service.AuthTokenService;
 import com.rest1.domain.member.member.service.MemberService;
 import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -11,26 +14,58 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class Rq {
 
+    private static final String PRINCIPAL_ATTRIBUTE = Rq.class.getName() + ".principal";
+
     private final MemberService memberService;
+    private final AuthTokenService authTokenService;
+    private final AuthRateLimiter authRateLimiter;
     private final HttpServletRequest request;
 
-    public Member getActor() {
+    // 요청당 한 번만 인증 헤더를 해석하고 결과를 요청 속성에 저장해 둔다.
+    public MemberPrincipal getPrincipal() {
+
+        if (request.getAttribute(PRINCIPAL_ATTRIBUTE) instanceof MemberPrincipal principal) {
+            return principal;
+        }
+
+        MemberPrincipal principal = resolvePrincipal();
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+
+        return principal;
+    }
+
+    public String getClientIp() {
+        return request.getRemoteAddr();
+    }
+
+    private MemberPrincipal resolvePrincipal() {
 
         String authorization = request.getHeader("Authorization");
 
         if(authorization == null || authorization.isEmpty()) {
-            throw new ServiceException("401-1", "헤더에 인증 정보가 없습니다.");
+            throw ServiceException.of(ResultCode.AUTH_HEADER_MISSING);
         }
 
         if(!authorization.startsWith("Bearer ")) {
-            throw new ServiceException("401-2", "헤더의 인증 정보 형식이 올바르지 않습니다.");
+            throw ServiceException.of(ResultCode.AUTH_HEADER_MALFORMED);
         }
 
-        Member actor = memberService.findByApiKey(authorization.replace("Bearer ", ""))
-                .orElseThrow(() -> new ServiceException("401-3", "API 키가 올바르지 않습니다."));
+        String credential = authorization.replace("Bearer ", "");
+
+        if (AuthTokenService.isAccessToken(credential)) {
+            return authTokenService.parseAccessToken(credential)
+                    .orElseThrow(() -> ServiceException.of(ResultCode.ACCESS_TOKEN_INVALID));
+        }
 
+        // 잘못된 API 키를 계속 보내는 IP 는 조회 전에 막는다.
+        String clientIp = getClientIp();
+        authRateLimiter.checkApiKey(clientIp);
 
-        return actor;
+        return memberService.findPrincipalByApiKey(credential)
+                .orElseThrow(() -> {
+                    authRateLimiter.recordApiKeyFailure(clientIp);
+                    return ServiceException.of(ResultCode.API_KEY_INVALID);
+                });
     }
 
 }
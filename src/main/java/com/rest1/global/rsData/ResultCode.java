@@ -0,0 +1,77 @@
+package com.rest1.global.rsData;
+
+// 응답 결과 코드 목록
+// "상태코드-세부코드" 문자열과 HTTP 상태 코드를 미리 만들어 두어 응답마다 문자열을 나누거나 파싱하지 않는다.
+// 같은 코드라도 상황별 메시지가 다르면 항목을 따로 둔다.
+public enum ResultCode {
+
+    OK(200, 1, "OK"),
+    LOGGED_IN(200, 1, "%s님 환영합니다."),
+    POST_MODIFIED(200, 1, "%d번 게시물이 수정되었습니다."),
+    POST_DELETED(200, 1, "%d번 게시물이 삭제되었습니다."),
+    COMMENT_MODIFIED(200, 1, "%d번 댓글이 수정되었습니다."),
+    COMMENT_DELETED(200, 1, "%d번 댓글이 삭제되었습니다."),
+
+    JOINED(201, 1, "회원가입이 완료되었습니다. %s님 환영합니다."),
+    POST_CREATED(201, 1, "%d번 게시물이 생성되었습니다."),
+    POSTS_BULK_CREATED(201, 1, "%d건 중 %d건의 게시물이 생성되었습니다."),
+    COMMENT_CREATED(201, 1, "%d번 댓글이 생성되었습니다."),
+    COMMENTS_BULK_CREATED(201, 1, "%d건 중 %d건의 댓글이 생성되었습니다."),
+
+    // 메시지는 검증 오류 목록으로 채운다.
+    VALIDATION_FAILED(400, 1, "%s"),
+    POSTS_BULK_NONE_CREATED(400, 1, "생성된 게시물이 없습니다."),
+    COMMENTS_BULK_NONE_CREATED(400, 1, "생성된 댓글이 없습니다."),
+    BAD_REQUEST_BODY(400, 2, "잘못된 형식의 요청 데이터입니다."),
+    BULK_SIZE_OUT_OF_RANGE(400, 3, "한 번에 1건 이상 %d건 이하로 요청해주세요."),
+
+    AUTH_HEADER_MISSING(401, 1, "헤더에 인증 정보가 없습니다."),
+    USERNAME_NOT_FOUND(401, 1, "존재하지 않는 아이디입니다."),
+    AUTH_HEADER_MALFORMED(401, 2, "헤더의 인증 정보 형식이 올바르지 않습니다."),
+    PASSWORD_MISMATCH(401, 2, "비밀번호가 일치하지 않습니다."),
+    API_KEY_INVALID(401, 3, "API 키가 올바르지 않습니다."),
+    ACCESS_TOKEN_INVALID(401, 4, "액세스 토큰이 올바르지 않거나 만료되었습니다."),
+
+    POST_MODIFY_FORBIDDEN(403, 1, "수정 권한이 없습니다."),
+    COMMENT_MODIFY_FORBIDDEN(403, 1, "댓글 수정 권한이 없습니다."),
+    POST_DELETE_FORBIDDEN(403, 2, "삭제 권한이 없습니다."),
+    COMMENT_DELETE_FORBIDDEN(403, 2, "댓글 삭제 권한이 없습니다."),
+
+    NOT_FOUND(404, 1, "존재하지 않는 데이터입니다."),
+
+    USERNAME_DUPLICATED(409, 1, "이미 사용중인 아이디입니다."),
+    CONCURRENT_MODIFICATION(409, 2, "다른 요청이 먼저 수정했습니다. 다시 조회한 후 시도해주세요."),
+
+    PRECONDITION_FAILED(412, 1, "다른 요청에 의해 변경되었습니다. 다시 조회한 후 시도해주세요."),
+
+    LOGIN_TOO_MANY_REQUESTS(429, 1, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_TOO_MANY_FAILURES(429, 2, "인증 실패가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    PASSWORD_HASHING_BUSY(503, 1, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+
+    private final int statusCode;
+    private final String code;
+    private final String msgTemplate;
+
+    ResultCode(int statusCode, int subCode, String msgTemplate) {
+        this.statusCode = statusCode;
+        this.code = (statusCode + "-" + subCode).intern();
+        this.msgTemplate = msgTemplate;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String msg(Object... args) {
+        if (args.length == 0) {
+            return msgTemplate;
+        }
+
+        return msgTemplate.formatted(args);
+    }
+}
@@ -1,27 +1,30 @@
 package com.rest1.global.rsData;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
 @Getter
 public class RsData<T> {
 
-    private String resultCode;
-    private String msg;
-    private T data;
+    private final String resultCode;
+    @JsonIgnore
+    private final int statusCode;
+    private final String msg;
+    private final T data;
 
-    public RsData(String resultCode, String msg) {
-        this.resultCode = resultCode;
+    public RsData(ResultCode resultCode, String msg, T data) {
+        this.resultCode = resultCode.getCode();
+        this.statusCode = resultCode.getStatusCode();
         this.msg = msg;
-        this.data = null;
+        this.data = data;
     }
 
-    @JsonIgnore
-    public int getStatusCode() {
-        String statusCode = resultCode.split("-")[0];
-        return Integer.parseInt(statusCode);
+    public RsData(ResultCode resultCode, String msg) {
+        this(resultCode, msg, null);
+    }
+
+    public RsData(ResultCode resultCode) {
+        this(resultCode, resultCode.msg(), null);
     }
 
 }
@@ -0,0 +1,44 @@
+package com.rest1.global.rsData;
+
+import com.rest1.global.apiObservationConvention.ApiObservationConvention;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// RsData 를 본문으로 쓰기 직전에 resultCode 의 앞자리로 HTTP 상태 코드를 맞춘다.
+// 컨트롤러와 @ExceptionHandler 의 @ResponseBody 반환값 모두에 적용되며, 메서드 호출마다 프록시를 거치지 않는다.
+// 결과 코드는 요청 메트릭의 태그로도 쓰이도록 요청 속성에 남긴다.
+@ControllerAdvice
+public class RsDataStatusAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return RsData.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        if (body instanceof RsData<?> rsData) {
+            response.setStatusCode(HttpStatusCode.valueOf(rsData.getStatusCode()));
+
+            if (request instanceof ServletServerHttpRequest servletRequest) {
+                servletRequest.getServletRequest().setAttribute(ApiObservationConvention.RESULT_CODE_ATTRIBUTE, rsData.getResultCode());
+            }
+        }
+
+        return body;
+    }
+}
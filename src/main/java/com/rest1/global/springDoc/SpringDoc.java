@@ -1,8 +1,10 @@
 package com.rest1.global.springDoc;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,6 +12,11 @@ import org.springframework.context.annotation.Configuration;
 @OpenAPIDefinition(info = @Info(title = "API 서버", version = "beta", description = "API 서버 문서입니다."))
 public class SpringDoc {
 
+    static {
+        // 인증 헤더로 주입되는 파라미터라 요청 파라미터로 문서화하지 않는다.
+        SpringDocUtils.getConfig().addRequestWrapperToIgnore(MemberPrincipal.class);
+    }
+
     @Bean
     public GroupedOpenApi groupApiV1() {
         return GroupedOpenApi.builder()
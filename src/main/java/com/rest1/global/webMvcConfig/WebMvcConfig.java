@@ -1,18 +1,45 @@
 package com.rest1.global.webMvcConfig;
 
+import com.rest1.domain.post.post.controller.PostNotFoundInterceptor;
+import com.rest1.global.rq.ActorArgumentResolver;
+import com.rest1.global.rq.AuthInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final AuthInterceptor authInterceptor;
+    private final PostNotFoundInterceptor postNotFoundInterceptor;
+    private final ActorArgumentResolver actorArgumentResolver;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
                 .allowedOrigins("https://cdpn.io", "http://localhost:3000")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Last-Modified")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(authInterceptor)
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(postNotFoundInterceptor)
+                .addPathPatterns("/api/v1/posts/*", "/api/v1/posts/*/comments/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(actorArgumentResolver);
+    }
 }
@@ -0,0 +1,123 @@
+package com.rest1.domain.member.member.controller;
+
+import com.rest1.domain.member.member.service.AuthRateLimitProperties;
+import com.rest1.domain.member.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 한도는 IP 마다 따로 세므로 테스트마다 다른 IP 로 요청한다.
+// 컨텍스트 설정이 달라 별도 DB 를 쓴다. 다른 테스트의 id 기대값(시퀀스)에 영향을 주지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_rate_limit_test;MODE=MySQL")
+public class ApiV1MemberControllerRateLimitTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private AuthRateLimitProperties authRateLimitProperties;
+
+    @MockitoSpyBean
+    private MemberService memberService;
+
+    private static RequestPostProcessor remoteAddr(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+
+    private ResultActions login(String ip, String username, String password) throws Exception {
+        return mvc
+                .perform(
+                        post("/api/v1/members/login")
+                                .with(remoteAddr(ip))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "username": "%s",
+                                            "password": "%s"
+                                        }
+                                        """.formatted(username, password)
+                                )
+                )
+                .andDo(print());
+    }
+
+    private ResultActions me(String ip, String apiKey) throws Exception {
+        return mvc
+                .perform(
+                        get("/api/v1/members/me")
+                                .with(remoteAddr(ip))
+                                .header("Authorization", "Bearer %s".formatted(apiKey))
+                )
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("로그인, 같은 아이디로 한도를 넘으면 회원 조회와 비밀번호 검증 없이 429")
+    void t1() throws Exception {
+        int capacity = authRateLimitProperties.loginByUsername().capacity();
+
+        for (int i = 0; i < capacity; i++) {
+            login("10.0.0.1", "user3", "wrong-password")
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.resultCode").value("401-2"));
+        }
+
+        clearInvocations(memberService);
+
+        login("10.0.0.1", "user3", "1234")
+                .andExpect(handler().handlerType(ApiV1MemberController.class))
+                .andExpect(handler().methodName("login"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.resultCode").value("429-1"))
+                .andExpect(jsonPath("$.msg").value("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+
+        verify(memberService, never()).findByUsername(anyString());
+        verify(memberService, never()).checkPassword(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("API 키 인증, 같은 IP 에서 잘못된 키로 한도를 넘으면 조회 없이 429")
+    void t2() throws Exception {
+        int capacity = authRateLimitProperties.apiKeyFailureByIp().capacity();
+
+        for (int i = 0; i < capacity; i++) {
+            me("10.0.0.2", "wrong-api-key-%d".formatted(i))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.resultCode").value("401-3"));
+        }
+
+        clearInvocations(memberService);
+
+        me("10.0.0.2", "wrong-api-key")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.resultCode").value("429-2"))
+                .andExpect(jsonPath("$.msg").value("인증 실패가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+
+        verify(memberService, never()).findPrincipalByApiKey(anyString());
+    }
+}
@@ -1,7 +1,10 @@
 package com.rest1.domain.member.member.controller;
 
+import com.rest1.domain.member.member.dto.MemberPrincipal;
 import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.domain.member.member.service.AuthTokenService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -30,6 +34,12 @@ public class ApiV1MemberControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("회원 가입")
     void t1() throws Exception {
@@ -63,6 +73,12 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.data.memberDto.createDate").exists())
                 .andExpect(jsonPath("$.data.memberDto.modifyDate").exists())
                 .andExpect(jsonPath("$.data.memberDto.name").value(nickname));
+
+        // 비밀번호는 BCrypt 해시로 저장된다.
+        String storedPassword = memberRepository.findByUsername(username).get().getPassword();
+
+        assertThat(storedPassword).isNotEqualTo(password);
+        assertThat(storedPassword).matches("^\\$2[aby]\\$\\d{2}\\$.{53}$");
     }
 
 
@@ -127,6 +143,7 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("200-1"))
                 .andExpect(jsonPath("$.msg").value("%s님 환영합니다.".formatted(username)))
                 .andExpect(jsonPath("$.data.apiKey").exists())
+                .andExpect(jsonPath("$.data.accessToken").exists())
                 .andExpect(jsonPath("$.data.memberDto.id").value(member.getId()))
                 .andExpect(jsonPath("$.data.memberDto.createDate").value(member.getCreateDate().toString()))
                 .andExpect(jsonPath("$.data.memberDto.modifyDate").value(member.getModifyDate().toString()))
@@ -162,4 +179,99 @@ public class ApiV1MemberControllerTest {
                 .andExpect(jsonPath("$.data.memberDto.name").value(member.getName()));
     }
 
+    @Test
+    @DisplayName("내 정보, 액세스 토큰으로 인증")
+    void t5() throws Exception {
+        Member actor = memberRepository.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(new MemberPrincipal(actor));
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/members/me")
+                                .header("Authorization", "Bearer " + accessToken)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1MemberController.class))
+                .andExpect(handler().methodName("me"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"))
+                .andExpect(jsonPath("$.data.memberDto.id").value(actor.getId()))
+                .andExpect(jsonPath("$.data.memberDto.name").value(actor.getName()));
+    }
+
+    @Test
+    @DisplayName("내 정보, 서명이 변조된 액세스 토큰")
+    void t6() throws Exception {
+        Member actor = memberRepository.findByUsername("user1").get();
+        String accessToken = authTokenService.genAccessToken(new MemberPrincipal(actor));
+        String tamperedAccessToken = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "AAAA";
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/members/me")
+                                .header("Authorization", "Bearer " + tamperedAccessToken)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1MemberController.class))
+                .andExpect(handler().methodName("me"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-4"))
+                .andExpect(jsonPath("$.msg").value("액세스 토큰이 올바르지 않거나 만료되었습니다."));
+    }
+
+    @Test
+    @DisplayName("로그인, 평문으로 저장된 예전 비밀번호는 로그인에 성공하면 BCrypt 해시로 바뀐다")
+    void t7() throws Exception {
+        String username = "user2";
+        String password = "1234";
+
+        Member member = memberRepository.findByUsername(username).get();
+        memberRepository.updatePassword(member.getId(), password);
+        entityManager.clear();
+
+        mvc
+                .perform(
+                        post("/api/v1/members/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "username": "%s",
+                                            "password": "%s"
+                                        }
+                                        """.formatted(username, password)
+                                )
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("login"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+
+        entityManager.clear();
+        String storedPassword = memberRepository.findByUsername(username).get().getPassword();
+
+        assertThat(storedPassword).isNotEqualTo(password);
+        assertThat(storedPassword).startsWith("$2");
+        assertThat(storedPassword).hasSize(60);
+    }
+
+    @Test
+    @DisplayName("내 정보, 액세스 토큰의 회원이 없으면 404")
+    void t8() throws Exception {
+        String accessToken = authTokenService.genAccessToken(new MemberPrincipal((long) Integer.MAX_VALUE, "ghost", "유령"));
+
+        mvc
+                .perform(
+                        get("/api/v1/members/me")
+                                .header("Authorization", "Bearer " + accessToken)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("me"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-1"))
+                .andExpect(jsonPath("$.msg").value("존재하지 않는 데이터입니다."));
+    }
 }
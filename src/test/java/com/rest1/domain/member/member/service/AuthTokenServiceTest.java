@@ -0,0 +1,61 @@
+package com.rest1.domain.member.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rest1.domain.member.member.dto.MemberPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AuthTokenServiceTest {
+
+    private static final String DEV_SECRET = "dev-only-access-token-secret-change-me-k1";
+    private static final String SECRET = "test-access-token-secret-000000000001";
+
+    private static AuthTokenService authTokenService(Map<String, String> keys, String... activeProfiles) {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles(activeProfiles);
+
+        return new AuthTokenService(
+                new ObjectMapper(),
+                new AccessTokenProperties(1200, "k1", keys),
+                environment
+        );
+    }
+
+    @Test
+    @DisplayName("키가 없거나 비어 있으면 기동하지 않는다.")
+    void t1() {
+        assertThatThrownBy(() -> authTokenService(Map.of(), "prod"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> authTokenService(Map.of("k1", ""), "prod"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("개발용 키는 dev/test 프로필 밖에서 기동하지 않는다.")
+    void t2() {
+        assertThatThrownBy(() -> authTokenService(Map.of("k1", DEV_SECRET), "prod"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> authTokenService(Map.of("k1", DEV_SECRET)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(authTokenService(Map.of("k1", DEV_SECRET), "dev")).isNotNull();
+        assertThat(authTokenService(Map.of("k1", DEV_SECRET), "test")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("설정한 키로 발급한 토큰은 검증된다.")
+    void t3() {
+        AuthTokenService authTokenService = authTokenService(Map.of("k1", SECRET), "prod");
+        MemberPrincipal principal = new MemberPrincipal(1L, "user1", "유저1");
+
+        String accessToken = authTokenService.genAccessToken(principal);
+
+        assertThat(authTokenService.parseAccessToken(accessToken)).contains(principal);
+    }
+}
@@ -0,0 +1,123 @@
+package com.rest1.domain.member.member.service;
+
+import com.rest1.global.exception.ServiceException;
+import com.rest1.global.rsData.ResultCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+public class PasswordHasherTest {
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(new PasswordProperties(5, 1, 4, 3000));
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 예전 비밀번호는 일치하면 새 해시를 돌려준다.")
+    void t1() {
+        PasswordHasher.Verification verification = passwordHasher.verify("1234", "1234");
+
+        assertThat(verification.matched()).isTrue();
+        assertThat(PasswordHasher.isHashed(verification.upgradedHash())).isTrue();
+        assertThat(passwordHasher.verify("1234", verification.upgradedHash()))
+                .isEqualTo(new PasswordHasher.Verification(true, null));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 다르면 해시를 바꾸지 않는다.")
+    void t2() {
+        assertThat(passwordHasher.verify("12345", "1234"))
+                .isEqualTo(new PasswordHasher.Verification(false, null));
+        assertThat(passwordHasher.verify("12345", passwordHasher.hash("1234")))
+                .isEqualTo(new PasswordHasher.Verification(false, null));
+    }
+
+    @Test
+    @DisplayName("설정보다 낮은 비용으로 만든 해시는 새 비용으로 다시 해시한다.")
+    void t3() {
+        PasswordHasher weakHasher = new PasswordHasher(new PasswordProperties(4, 1, 4, 3000));
+        String weakHash = weakHasher.hash("1234");
+        weakHasher.shutdown();
+
+        PasswordHasher.Verification verification = passwordHasher.verify("1234", weakHash);
+
+        assertThat(verification.matched()).isTrue();
+        assertThat(verification.upgradedHash()).startsWith("$2a$05$");
+    }
+
+    // 전용 스레드를 release 가 열릴 때까지 붙잡는 작업을 다른 스레드에서 넣는다.
+    private static Thread occupy(PasswordHasher hasher, CountDownLatch started, CountDownLatch release) {
+        return Thread.ofPlatform().start(() -> {
+            try {
+                hasher.run(() -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                });
+            } catch (ServiceException ignored) {
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("시간 안에 해시하지 못하면 503-1 로 거절한다.")
+    void t4() throws Exception {
+        PasswordHasher busyHasher = new PasswordHasher(new PasswordProperties(4, 1, 1, 200));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Thread worker = occupy(busyHasher, started, release);
+            started.await();
+
+            assertThatThrownBy(() -> busyHasher.hash("1234"))
+                    .isInstanceOfSatisfying(ServiceException.class, e ->
+                            assertThat(e.getResultCode()).isEqualTo(ResultCode.PASSWORD_HASHING_BUSY)
+                    );
+
+            release.countDown();
+            worker.join();
+        } finally {
+            busyHasher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 503-1 로 거절한다.")
+    void t5() throws Exception {
+        PasswordHasher busyHasher = new PasswordHasher(new PasswordProperties(4, 1, 1, 3000));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Thread running = occupy(busyHasher, started, release);
+            started.await();
+            Thread queued = occupy(busyHasher, new CountDownLatch(1), release);
+            // 대기열에 넣고 결과를 기다리기 시작할 때까지 기다린다.
+            await().until(() -> queued.getState() == Thread.State.TIMED_WAITING);
+
+            long startedAt = System.nanoTime();
+
+            assertThatThrownBy(() -> busyHasher.hash("1234"))
+                    .isInstanceOfSatisfying(ServiceException.class, e ->
+                            assertThat(e.getResultCode()).isEqualTo(ResultCode.PASSWORD_HASHING_BUSY)
+                    );
+            assertThat(System.nanoTime() - startedAt).isLessThan(1_000_000_000L);
+
+            release.countDown();
+            running.join();
+            queued.join();
+        } finally {
+            busyHasher.shutdown();
+        }
+    }
+}
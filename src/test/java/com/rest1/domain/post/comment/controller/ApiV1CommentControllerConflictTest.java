@@ -0,0 +1,86 @@
+package com.rest1.domain.post.comment.controller;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.comment.repository.CommentRepository;
+import com.rest1.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 조회와 삭제 사이에 다른 요청이 댓글을 수정한 상황을 만든다.
+// 컨텍스트 설정이 달라 별도 DB 를 쓴다. 다른 테스트의 id 기대값(시퀀스)에 영향을 주지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_comment_conflict_test;MODE=MySQL")
+@Transactional
+public class ApiV1CommentControllerConflictTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoSpyBean
+    private PostService postService;
+
+    @Test
+    @DisplayName("댓글 삭제 - 조회 이후 다른 요청이 수정해 지워진 행이 없으면 409")
+    void t1() throws Exception {
+        long targetPostId = 1;
+        long targetCommentId = 1;
+
+        doAnswer(invocation -> {
+            Comment comment = invocation.getArgument(0);
+
+            entityManager
+                    .createQuery("update Comment c set c.version = c.version + 1 where c.id = :id")
+                    .setParameter("id", comment.getId())
+                    .executeUpdate();
+
+            return invocation.callRealMethod();
+        }).when(postService).deleteComment(any());
+
+        Member author = memberRepository.findByUsername("user1").get();
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                )
+                .andDo(print())
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("deleteItem"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.resultCode").value("409-2"))
+                .andExpect(jsonPath("$.msg").value("다른 요청이 먼저 수정했습니다. 다시 조회한 후 시도해주세요."));
+
+        entityManager.clear();
+
+        assertThat(commentRepository.findByPostIdAndId(targetPostId, targetCommentId)).isPresent();
+    }
+}
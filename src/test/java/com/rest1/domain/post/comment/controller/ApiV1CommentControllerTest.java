@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,15 +57,16 @@ public class ApiV1CommentControllerTest {
                 .andExpect(status().isOk());
 
         resultActions
-                .andExpect(jsonPath("$.length()").value(3))
-                .andExpect(jsonPath("$[*].id", containsInRelativeOrder(3, 1)))
-                .andExpect(jsonPath("$[0].id").value(3))
-                .andExpect(jsonPath("$[0].createDate").exists())
-                .andExpect(jsonPath("$[0].modifyDate").exists())
-                .andExpect(jsonPath("$[0].content").value("댓글 1-3"))
-                .andExpect(jsonPath("$[0].authorId").value(3))
-                .andExpect(jsonPath("$[0].authorName").value("유저1"))
-                .andExpect(jsonPath("$[0].postId").value(1));
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[*].id", containsInRelativeOrder(3, 1)))
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.items[0].createDate").exists())
+                .andExpect(jsonPath("$.items[0].modifyDate").exists())
+                .andExpect(jsonPath("$.items[0].content").value("댓글 1-3"))
+                .andExpect(jsonPath("$.items[0].authorId").value(3))
+                .andExpect(jsonPath("$.items[0].authorName").value("유저1"))
+                .andExpect(jsonPath("$.items[0].postId").value(1))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
 
     }
 
@@ -246,4 +248,252 @@ public class ApiV1CommentControllerTest {
                 .andExpect(jsonPath("$.resultCode").value("403-2"))
                 .andExpect(jsonPath("$.msg").value("댓글 삭제 권한이 없습니다."));
     }
+
+    @Test
+    @DisplayName("댓글 단건 조회 - 다른 글에 속한 댓글")
+    void t8() throws Exception {
+        long targetPostId = 2;
+        long targetCommentId = 1;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 커서 기반 페이징")
+    void t9() throws Exception {
+        long targetPostId = 1;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .param("size", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+
+        ResultActions nextResultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .param("cursor", "2")
+                                .param("size", "2")
+                )
+                .andDo(print());
+
+        nextResultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 존재하지 않는 글")
+    void t10() throws Exception {
+        long targetPostId = Integer.MAX_VALUE;
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.resultCode").value("404-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 일괄 작성 - 1번 글에 생성")
+    void t11() throws Exception {
+        long targetPostId = 1;
+        Member author = memberRepository.findByUsername("user1").get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments/bulk".formatted(targetPostId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                            {
+                                                "content": "댓글 내용 1"
+                                            },
+                                            {
+                                                "content": ""
+                                            }
+                                        ]
+                                        """)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1CommentController.class))
+                .andExpect(handler().methodName("createItems"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("2건 중 1건의 댓글이 생성되었습니다."))
+                .andExpect(jsonPath("$.data.results[0].resultCode").value("201-1"))
+                .andExpect(jsonPath("$.data.results[0].data.content").value("댓글 내용 1"))
+                .andExpect(jsonPath("$.data.results[0].data.postId").value(targetPostId))
+                .andExpect(jsonPath("$.data.results[1].resultCode").value("400-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회 - 댓글이 바뀌면 ETag 도 바뀐다")
+    void t12() throws Exception {
+        long targetPostId = 1;
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isNotModified());
+
+        Member author = memberRepository.findByUsername("user1").get();
+
+        mvc
+                .perform(
+                        post("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "새로운 댓글"
+                                        }
+                                        """)
+                )
+                .andExpect(status().isCreated());
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments".formatted(targetPostId))
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
+    private String commentEtag(long postId, long commentId) throws Exception {
+        return mvc
+                .perform(
+                        get("/api/v1/posts/%d/comments/%d".formatted(postId, commentId))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+    }
+
+    @Test
+    @DisplayName("댓글 수정 - If-Match 가 현재 ETag 와 다르면 412, 같으면 수정")
+    void t13() throws Exception {
+        long targetPostId = 1;
+        long targetCommentId = 1;
+
+        Member author = memberRepository.findByUsername("user1").get();
+        String etag = commentEtag(targetPostId, targetCommentId);
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", "\"comment-1-old\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "댓글 내용 수정"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("modifyItem"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.resultCode").value("412-1"));
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "content": "댓글 내용 수정"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("modifyItem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 - If-Match 가 현재 ETag 와 다르면 412, 같으면 삭제")
+    void t14() throws Exception {
+        long targetPostId = 1;
+        long targetCommentId = 1;
+
+        Member author = memberRepository.findByUsername("user1").get();
+        String etag = commentEtag(targetPostId, targetCommentId);
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", "\"comment-1-old\"")
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("deleteItem"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.resultCode").value("412-1"));
+
+        mvc
+                .perform(
+                        delete("/api/v1/posts/%d/comments/%d".formatted(targetPostId, targetCommentId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", etag)
+                )
+                .andDo(print())
+                .andExpect(handler().methodName("deleteItem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+
+        Post post = postRepository.findById(targetPostId).get();
+        assertThat(post.findCommentById(targetCommentId)).isEmpty();
+    }
 }
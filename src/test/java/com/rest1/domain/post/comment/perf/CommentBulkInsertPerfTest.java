@@ -0,0 +1,127 @@
+package com.rest1.domain.post.comment.perf;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.service.MemberService;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.service.PostService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew perfTest 로 실행
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles({"test", "perf"})
+public class CommentBulkInsertPerfTest {
+
+    private static final int COMMENT_COUNT = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long authorId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        authorId = memberService.findByUsername("user1").get().getId();
+        postId = transactionTemplate.execute(status ->
+                postService.write(memberService.getReferenceById(authorId), "대량등록", "대량등록").getId()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from Comment c where c.post.id = :postId")
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+            entityManager.createQuery("delete from Post p where p.id = :postId")
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("댓글 10만 건 저장 - JDBC 배치 사용 여부에 따른 처리량 비교")
+    void t1() {
+        Result unbatched = insertComments(1);
+        Result batched = insertComments(null);
+
+        System.out.printf(
+                "[comment bulk insert] rows=%d%n  batch off : %,.0f rows/s, %d statements%n  batch on  : %,.0f rows/s, %d statements (x%.1f)%n",
+                COMMENT_COUNT,
+                unbatched.rowsPerSecond(), unbatched.statementCount(),
+                batched.rowsPerSecond(), batched.statementCount(),
+                batched.rowsPerSecond() / unbatched.rowsPerSecond()
+        );
+
+        assertThat(batched.statementCount()).isLessThan(unbatched.statementCount());
+    }
+
+    // jdbcBatchSize 가 null 이면 hibernate.jdbc.batch_size 설정을 그대로 쓴다.
+    private Result insertComments(Integer jdbcBatchSize) {
+        statistics.clear();
+        long startNanos = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+            for (int i = 1; i <= COMMENT_COUNT; i++) {
+                Member author = entityManager.getReference(Member.class, authorId);
+                Post post = entityManager.getReference(Post.class, postId);
+
+                entityManager.persist(new Comment(author, "댓글 %d".formatted(i), post));
+
+                if (i % CHUNK_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        return new Result(
+                COMMENT_COUNT / (elapsedNanos / 1_000_000_000.0),
+                statistics.getPrepareStatementCount()
+        );
+    }
+
+    private record Result(
+            double rowsPerSecond,
+            long statementCount
+    ) {
+    }
+}
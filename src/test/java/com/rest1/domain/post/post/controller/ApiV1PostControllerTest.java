@@ -4,6 +4,7 @@ import com.rest1.domain.member.member.entity.Member;
 import com.rest1.domain.member.member.repository.MemberRepository;
 import com.rest1.domain.post.post.entity.Post;
 import com.rest1.domain.post.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +16,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.hamcrest.Matchers.matchesPattern;
@@ -37,6 +41,9 @@ public class ApiV1PostControllerTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("글 다건 조회")
     void t1() throws Exception {
@@ -53,15 +60,15 @@ public class ApiV1PostControllerTest {
                 .andExpect(status().isOk());
 
         resultActions
-                .andExpect(jsonPath("$.length()").value(3))
-                .andExpect(jsonPath("$[*].id", containsInRelativeOrder(3, 1)))
-                .andExpect(jsonPath("$[0].id").value(3))
-                .andExpect(jsonPath("$[0].createDate").exists())
-                .andExpect(jsonPath("$[0].modifyDate").exists())
-                .andExpect(jsonPath("$[0].title").value("제목3"))
-                .andExpect(jsonPath("$[0].content").value("내용3"))
-                .andExpect(jsonPath("$[0].authorId").value(4))
-                .andExpect(jsonPath("$[0].authorName").value("유저2"));
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[*].id", containsInRelativeOrder(3, 1)))
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.items[0].createDate").exists())
+                .andExpect(jsonPath("$.items[0].modifyDate").exists())
+                .andExpect(jsonPath("$.items[0].title").value("제목3"))
+                .andExpect(jsonPath("$.items[0].authorId").value(4))
+                .andExpect(jsonPath("$.items[0].authorName").value("유저2"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
 
 
         // 하나 또는 2개 정도만 검증
@@ -466,4 +473,218 @@ public class ApiV1PostControllerTest {
                 .andExpect(jsonPath("$.msg").value("삭제 권한이 없습니다."));
 
     }
+
+    @Test
+    @DisplayName("글 다건 조회, 커서 기반 페이징")
+    void t15() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("size", "2")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(3))
+                .andExpect(jsonPath("$.items[1].id").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+
+        ResultActions nextResultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .param("cursor", "2")
+                                .param("size", "2")
+                )
+                .andDo(print());
+
+        nextResultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("글 다건 조회, 공개 경로는 인증 헤더를 검사하지 않는다")
+    void t16() throws Exception {
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts")
+                                .header("Authorization", "wrong header")
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItems"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("글 일괄 작성, 항목별 검증 결과를 돌려준다")
+    void t17() throws Exception {
+        Member author = memberRepository.findByUsername("user1").get();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        post("/api/v1/posts/bulk")
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                            {
+                                                "title": "제목4",
+                                                "content": "내용4"
+                                            },
+                                            {
+                                                "title": "",
+                                                "content": "내용"
+                                            },
+                                            {
+                                                "title": "제목5",
+                                                "content": "내용5"
+                                            }
+                                        ]
+                                        """)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("createItems"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.resultCode").value("201-1"))
+                .andExpect(jsonPath("$.msg").value("3건 중 2건의 게시물이 생성되었습니다."))
+                .andExpect(jsonPath("$.data.results.length()").value(3))
+                .andExpect(jsonPath("$.data.results[0].resultCode").value("201-1"))
+                .andExpect(jsonPath("$.data.results[0].data.title").value("제목4"))
+                .andExpect(jsonPath("$.data.results[0].data.authorId").value(author.getId()))
+                .andExpect(jsonPath("$.data.results[1].resultCode").value("400-1"))
+                .andExpect(jsonPath("$.data.results[1].msg").value("""
+                        title-NotBlank-must not be blank
+                        title-Size-size must be between 2 and 10
+                        """.stripIndent().trim()))
+                .andExpect(jsonPath("$.data.results[2].resultCode").value("201-1"))
+                .andExpect(jsonPath("$.data.results[2].data.title").value("제목5"));
+
+        assertThat(postRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("글 단건 조회, ETag 가 같으면 304")
+    void t18() throws Exception {
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/1")
+                                .header("If-None-Match", etag)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("글 수정, If-Match 가 현재 ETag 와 다르면 412")
+    void t19() throws Exception {
+        long targetId = 1;
+        Member author = memberRepository.findByUsername("user1").get();
+
+        String etag = mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId))
+                )
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        ResultActions resultActions = mvc
+                .perform(
+                        put("/api/v1/posts/%d".formatted(targetId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", "\"post-%d-stale\"".formatted(targetId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 수정",
+                                            "content": "내용 수정"
+                                        }
+                                        """)
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("modifyItem"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.resultCode").value("412-1"));
+
+        mvc
+                .perform(
+                        put("/api/v1/posts/%d".formatted(targetId))
+                                .header("Authorization", "Bearer %s".formatted(author.getApiKey()))
+                                .header("If-Match", etag)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                            "title": "제목 수정",
+                                            "content": "내용 수정"
+                                        }
+                                        """)
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-1"));
+    }
+
+    @Test
+    @DisplayName("글 단건 조회, 댓글 수가 바뀌면 If-Modified-Since 가 있어도 새 댓글 수로 200")
+    void t20() throws Exception {
+        long targetId = 1;
+
+        mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(3));
+
+        // 댓글 작성과 같이 수정일은 그대로 두고 댓글 수만 바꾼다.
+        postRepository.increaseCommentCount(targetId, 1);
+        entityManager.clear();
+
+        ResultActions resultActions = mvc
+                .perform(
+                        get("/api/v1/posts/%d".formatted(targetId))
+                                .header("If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now().plusDays(1)))
+                )
+                .andDo(print());
+
+        resultActions
+                .andExpect(handler().handlerType(ApiV1PostController.class))
+                .andExpect(handler().methodName("getItem"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.commentCount").value(4));
+    }
 }
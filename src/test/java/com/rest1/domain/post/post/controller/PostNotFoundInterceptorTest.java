@@ -0,0 +1,125 @@
+package com.rest1.domain.post.post.controller;
+
+import com.rest1.domain.post.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// 컨텍스트 설정이 달라 별도 DB 를 쓴다. 다른 테스트의 id 기대값(시퀀스)에 영향을 주지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_post_not_found_test;MODE=MySQL")
+public class PostNotFoundInterceptorTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoSpyBean
+    private PostService postService;
+
+    @Nested
+    @TestPropertySource(properties = "custom.post.idIndexEnabled=true")
+    class IndexEnabled {
+
+        @Test
+        @DisplayName("인덱스에 없는 글은 컨트롤러를 거치지 않고 404 로 응답한다.")
+        void t1() throws Exception {
+            clearInvocations(postService);
+
+            ResultActions resultActions = mvc
+                    .perform(
+                            get("/api/v1/posts/%d".formatted(Integer.MAX_VALUE))
+                    )
+                    .andDo(print());
+
+            resultActions
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.resultCode").value("404-1"))
+                    .andExpect(jsonPath("$.msg").value("존재하지 않는 데이터입니다."));
+
+            verify(postService, never()).findPostDtoById(anyLong());
+        }
+
+        @Test
+        @DisplayName("인덱스에 없는 글의 댓글 목록도 바로 404 로 응답한다.")
+        void t2() throws Exception {
+            clearInvocations(postService);
+
+            mvc
+                    .perform(
+                            get("/api/v1/posts/%d/comments".formatted(Integer.MAX_VALUE))
+                    )
+                    .andDo(print())
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.resultCode").value("404-1"));
+
+            verify(postService, never()).findLatestCommentDtos(anyLong());
+        }
+
+        @Test
+        @DisplayName("있는 글은 그대로 컨트롤러로 넘긴다.")
+        void t3() throws Exception {
+            mvc
+                    .perform(
+                            get("/api/v1/posts/1")
+                    )
+                    .andExpect(handler().methodName("getItem"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("삭제한 글은 커밋 전까지 인덱스에서 빼지 않는다.")
+        void t4() {
+            assertThat(postService.mightExist((long) Integer.MAX_VALUE)).isFalse();
+
+            postService.delete(postService.findById(3L).get());
+
+            assertThat(postService.mightExist(3L)).isTrue();
+        }
+    }
+
+    @Nested
+    @TestPropertySource(properties = "custom.post.idIndexEnabled=false")
+    class IndexDisabled {
+
+        @Test
+        @DisplayName("인덱스를 끄면 없는 글도 컨트롤러에서 조회한 뒤 404 로 응답한다.")
+        void t1() throws Exception {
+            clearInvocations(postService);
+
+            mvc
+                    .perform(
+                            get("/api/v1/posts/%d".formatted(Integer.MAX_VALUE))
+                    )
+                    .andDo(print())
+                    .andExpect(handler().methodName("getItem"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.resultCode").value("404-1"));
+
+            verify(postService).findPostDtoById((long) Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.rest1.domain.post.post.perf;
+
+import com.rest1.domain.member.member.service.MemberService;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew perfTest 로 실행
+// 여러 스레드가 같은 글을 읽고-고치고-쓰기 하면서 충돌하면 다시 시도한다.
+// 갱신 손실이 없다면 최종 카운터 값은 성공한 쓰기 횟수와 같다.
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles({"test", "perf"})
+public class PostOptimisticLockPerfTest {
+
+    private static final int WRITER_COUNT = 16;
+    private static final int WRITES_PER_WRITER = 200;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Long authorId = memberService.findByUsername("user1").get().getId();
+
+        postId = transactionTemplate.execute(status ->
+                postService.write(memberService.getReferenceById(authorId), "경합", "0").getId()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+                postService.findById(postId).ifPresent(postService::delete)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 글에 동시에 쓰기 - 충돌 횟수와 처리량 측정, 갱신 손실 없음")
+    void t1() throws Exception {
+        AtomicLong conflictCount = new AtomicLong();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT)) {
+            for (int i = 0; i < WRITER_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+
+                    for (int j = 0; j < WRITES_PER_WRITER; j++) {
+                        while (!tryIncrement()) {
+                            conflictCount.incrementAndGet();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            startLatch.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            int writeCount = WRITER_COUNT * WRITES_PER_WRITER;
+
+            System.out.printf(
+                    "[optimistic lock] writers=%d writes=%d conflicts=%d (%.1f%%) %.2fs, %,.0f writes/s%n",
+                    WRITER_COUNT,
+                    writeCount,
+                    conflictCount.get(),
+                    100.0 * conflictCount.get() / (writeCount + conflictCount.get()),
+                    elapsedSeconds,
+                    writeCount / elapsedSeconds
+            );
+
+            Post post = postService.findById(postId).get();
+
+            assertThat(post.getContent()).isEqualTo(String.valueOf(writeCount));
+            assertThat(post.getVersion()).isEqualTo((long) writeCount);
+        }
+    }
+
+    private boolean tryIncrement() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Post post = postService.findById(postId).get();
+                long next = Long.parseLong(post.getContent()) + 1;
+
+                postService.modify(post, post.getTitle(), String.valueOf(next));
+            });
+
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+}
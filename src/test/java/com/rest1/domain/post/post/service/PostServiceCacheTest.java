@@ -0,0 +1,158 @@
+package com.rest1.domain.post.post.service;
+
+import com.rest1.domain.member.member.service.MemberService;
+import com.rest1.domain.post.comment.entity.Comment;
+import com.rest1.domain.post.post.dto.PostDto;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.global.cacheConfig.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// 캐시는 커밋 이후에 반영되므로 트랜잭션 없이 실행한다.
+// 다른 테스트의 id 기대값에 영향을 주지 않도록 별도의 DB 를 쓴다.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_cache_test;MODE=MySQL",
+        "custom.cache.evictAgainDelay=200ms"
+})
+public class PostServiceCacheTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Long authorId = memberService.findByUsername("user1").get().getId();
+
+        postId = transactionTemplate.execute(status -> {
+            Post post = postService.write(memberService.getReferenceById(authorId), "캐시제목", "캐시내용");
+            postService.writeComment(memberService.getReferenceById(authorId), post, "캐시댓글");
+
+            return post.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+                postService.findById(postId).ifPresent(postService::delete)
+        );
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    @Test
+    @DisplayName("글 단건 조회 결과는 캐시되고, 글을 수정하면 무효화된다.")
+    void t1() {
+        postService.findPostDtoById(postId);
+        assertThat(cache(CacheConfig.POST_DTO_BY_ID).get(postId)).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postService.findById(postId).get();
+            postService.modify(post, "수정제목", "수정내용");
+        });
+
+        assertThat(cache(CacheConfig.POST_DTO_BY_ID).get(postId)).isNull();
+        assertThat(postService.findPostDtoById(postId).get().title()).isEqualTo("수정제목");
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 캐시되고, 댓글을 작성/수정/삭제하면 무효화된다.")
+    void t2() {
+        Long authorId = memberService.findByUsername("user1").get().getId();
+
+        assertThat(postService.findLatestCommentDtos(postId)).hasSize(1);
+        assertThat(cache(CacheConfig.COMMENT_DTOS_BY_POST_ID).get(postId)).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postService.findById(postId).get();
+            postService.writeComment(memberService.getReferenceById(authorId), post, "새댓글");
+        });
+
+        assertThat(cache(CacheConfig.COMMENT_DTOS_BY_POST_ID).get(postId)).isNull();
+        assertThat(postService.findLatestCommentDtos(postId)).hasSize(2);
+
+        Long commentId = postService.findLatestCommentDtos(postId).getFirst().id();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = postService.findCommentById(postId, commentId).get();
+            postService.modifyComment(comment, "수정댓글");
+        });
+
+        assertThat(cache(CacheConfig.COMMENT_DTOS_BY_POST_ID).get(postId)).isNull();
+        assertThat(postService.findLatestCommentDtos(postId).getFirst().content()).isEqualTo("수정댓글");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = postService.findCommentById(postId, commentId).get();
+            postService.deleteComment(comment);
+        });
+
+        assertThat(cache(CacheConfig.COMMENT_DTOS_BY_POST_ID).get(postId)).isNull();
+        assertThat(postService.findLatestCommentDtos(postId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("글을 삭제하면 글과 댓글 목록 캐시가 모두 무효화된다.")
+    void t3() {
+        postService.findPostDtoById(postId);
+        postService.findLatestCommentDtos(postId);
+
+        transactionTemplate.executeWithoutResult(status ->
+                postService.delete(postService.findById(postId).get())
+        );
+
+        assertThat(cache(CacheConfig.POST_DTO_BY_ID).get(postId)).isNull();
+        assertThat(cache(CacheConfig.COMMENT_DTOS_BY_POST_ID).get(postId)).isNull();
+        assertThat(postService.findPostDtoById(postId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 전에 읽은 조회가 무효화 뒤에 지난 값을 캐시에 넣어도, 한 번 더 무효화해서 지운다.")
+    void t4() {
+        // 캐시 미스로 수정 전 글을 읽은 조회
+        Optional<PostDto> staleDto = postService.findPostDtoById(postId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = postService.findById(postId).get();
+            postService.modify(post, "수정제목", "수정내용");
+        });
+
+        // 그 조회가 커밋 후 무효화보다 늦게 캐시에 넣는다.
+        cache(CacheConfig.POST_DTO_BY_ID).put(postId, staleDto);
+
+        await()
+                .atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(cache(CacheConfig.POST_DTO_BY_ID).get(postId)).isNull());
+
+        assertThat(postService.findPostDtoById(postId).get().title()).isEqualTo("수정제목");
+    }
+}
@@ -0,0 +1,79 @@
+package com.rest1.domain.post.post.service;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.service.MemberService;
+import com.rest1.domain.post.post.entity.Post;
+import com.rest1.domain.post.post.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class PostServiceTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private long commentCountOf(Long postId) {
+        entityManager.flush();
+        entityManager.clear();
+
+        return postRepository.findById(postId).get().getCommentCount();
+    }
+
+    @Test
+    @DisplayName("댓글을 작성/삭제하면 글의 댓글 수가 함께 바뀐다.")
+    void t1() {
+        Member author = memberService.findByUsername("user1").get();
+
+        assertThat(commentCountOf(1L)).isEqualTo(3);
+
+        postService.writeComment(author, postService.findById(1L).get(), "댓글 1-4");
+        assertThat(commentCountOf(1L)).isEqualTo(4);
+
+        postService.deleteComment(postService.findCommentById(1L, 1L).get());
+        assertThat(commentCountOf(1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("글 수정은 댓글 수를 덮어쓰지 않는다.")
+    void t2() {
+        Post post = postService.findById(1L).get();
+        postRepository.increaseCommentCount(1L, 1);
+
+        postService.modify(post, "제목 수정", "내용 수정");
+
+        assertThat(commentCountOf(1L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("어긋난 댓글 수를 실제 댓글 개수로 다시 맞춘다.")
+    void t3() {
+        postRepository.increaseCommentCount(1L, 10);
+        postRepository.increaseCommentCount(3L, -5);
+
+        int reconciledCount = postService.reconcileCommentCounts();
+
+        assertThat(reconciledCount).isEqualTo(2);
+        assertThat(commentCountOf(1L)).isEqualTo(3);
+        assertThat(commentCountOf(2L)).isEqualTo(2);
+        assertThat(commentCountOf(3L)).isEqualTo(0);
+    }
+}
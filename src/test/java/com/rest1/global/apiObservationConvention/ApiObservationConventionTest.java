@@ -0,0 +1,46 @@
+package com.rest1.global.apiObservationConvention;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+// 컨텍스트 설정이 달라 별도 DB 를 쓴다. 다른 테스트의 id 기대값(시퀀스)에 영향을 주지 않는다.
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_observation_test;MODE=MySQL")
+public class ApiObservationConventionTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @DisplayName("요청 타이머가 컨트롤러 메서드와 결과 코드 태그로 프로메테우스에 노출된다.")
+    void t1() throws Exception {
+        mvc.perform(get("/api/v1/posts/1"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/api/v1/posts/%d".formatted(Integer.MAX_VALUE)))
+                .andExpect(status().isNotFound());
+
+        mvc.perform(get("/actuator/prometheus"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("handler=\"ApiV1PostController#getItem\"")))
+                .andExpect(content().string(containsString("result_code=\"404-1\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")));
+    }
+}
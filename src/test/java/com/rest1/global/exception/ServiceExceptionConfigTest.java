@@ -0,0 +1,30 @@
+package com.rest1.global.exception;
+
+import com.rest1.global.rsData.ResultCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 설정이 JVM 전역 값이므로 끝나면 컨텍스트를 닫아 이전 값으로 되돌린다.
+// 컨텍스트 설정이 달라 별도 DB 를 쓴다. 다른 테스트의 id 기대값(시퀀스)에 영향을 주지 않는다.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_service_exception_test;MODE=MySQL",
+        "custom.exception.stackTrace=true"
+})
+@DirtiesContext
+public class ServiceExceptionConfigTest {
+
+    @Test
+    @DisplayName("custom.exception.stackTrace=true 면 스택 트레이스를 채운다.")
+    void t1() {
+        assertThat(ServiceException.isStackTraceEnabled()).isTrue();
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND).getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.rest1.global.exception;
+
+import com.rest1.global.rsData.ResultCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServiceExceptionTest {
+
+    @AfterEach
+    void tearDown() {
+        ServiceException.setStackTraceEnabled(false);
+    }
+
+    @Test
+    @DisplayName("기본은 스택 트레이스를 채우지 않는다.")
+    void t1() {
+        assertThat(new ServiceException(ResultCode.NOT_FOUND).getStackTrace()).isEmpty();
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND).getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("of 는 코드마다 같은 인스턴스를 돌려준다.")
+    void t2() {
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND)).isSameAs(ServiceException.of(ResultCode.NOT_FOUND));
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND)).isNotSameAs(ServiceException.of(ResultCode.USERNAME_DUPLICATED));
+    }
+
+    @Test
+    @DisplayName("메시지는 인자로 채우고, getMessage 는 코드를 앞에 붙인다.")
+    void t3() {
+        ServiceException exception = new ServiceException(ResultCode.BULK_SIZE_OUT_OF_RANGE, 500);
+
+        assertThat(exception.getResultCode()).isEqualTo(ResultCode.BULK_SIZE_OUT_OF_RANGE);
+        assertThat(exception.getMsg()).isEqualTo("한 번에 1건 이상 500건 이하로 요청해주세요.");
+        assertThat(exception.getMessage()).isEqualTo("400-3 : 한 번에 1건 이상 500건 이하로 요청해주세요.");
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND).getMessage()).isEqualTo("404-1 : 존재하지 않는 데이터입니다.");
+    }
+
+    @Test
+    @DisplayName("스택 트레이스를 켜면 다시 채우고, of 도 매번 새로 만든다.")
+    void t4() {
+        ServiceException.setStackTraceEnabled(true);
+
+        assertThat(new ServiceException(ResultCode.NOT_FOUND).getStackTrace()).isNotEmpty();
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND).getStackTrace()).isNotEmpty();
+        assertThat(ServiceException.of(ResultCode.NOT_FOUND)).isNotSameAs(ServiceException.of(ResultCode.NOT_FOUND));
+    }
+}
@@ -0,0 +1,54 @@
+package com.rest1.global.jpa;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시퀀스를 새로 만들어야 하므로 별도 DB 를 쓴다.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_id_allocation_test;MODE=MySQL",
+        "custom.jpa.idAllocationSize=10"
+})
+@Transactional
+public class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Test
+    @DisplayName("시퀀스 증가값은 custom.jpa.idAllocationSize 를 따른다.")
+    void t1() {
+        Long increment = jdbcTemplate.queryForObject(
+                "select \"INCREMENT\" from information_schema.sequences where sequence_name = 'MEMBER_SEQ'",
+                Long.class
+        );
+
+        assertThat(increment).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("할당 단위를 넘겨도 id 는 이어서 발급된다.")
+    void t2() {
+        long lastId = memberService.findByUsername("user3").get().getId();
+
+        for (int i = 1; i <= 12; i++) {
+            Member member = memberService.join("seqUser%d".formatted(i), "1234", "시퀀스%d".formatted(i));
+
+            assertThat(member.getId()).isEqualTo(lastId + i);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.rest1.global.jpa;
+
+import com.rest1.domain.member.member.entity.Member;
+import com.rest1.domain.member.member.repository.MemberRepository;
+import com.rest1.domain.member.member.service.MemberService;
+import com.rest1.global.cacheConfig.CacheConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 엔드포인트별로 실행되는 SQL 문 수를 세서, 정해둔 예산을 넘으면(N+1 등) 실패시킨다.
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+public class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    private long countStatements(RequestBuilder requestBuilder) throws Exception {
+        entityManager.clear();
+        statistics.clear();
+
+        mvc.perform(requestBuilder)
+                .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("글 다건 조회는 1개의 쿼리로 처리된다.")
+    void t1() throws Exception {
+        long count = countStatements(get("/api/v1/posts"));
+
+        assertThat(count).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("글 단건 조회는 작성자를 포함해 1개의 쿼리로 처리된다.")
+    void t2() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1"));
+
+        assertThat(count).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 다건 조회는 작성자 수와 상관없이 1개의 쿼리로 처리된다.")
+    void t3() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1/comments"));
+
+        assertThat(count).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 단건 조회는 글의 다른 댓글을 로딩하지 않고 1개의 쿼리로 처리된다.")
+    void t4() throws Exception {
+        long count = countStatements(get("/api/v1/posts/1/comments/1"));
+
+        assertThat(count).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("API 키 인증은 회원 엔티티를 로딩하지 않고 식별 정보만 1개의 쿼리로 조회한다.")
+    void t5() {
+        Member member = memberRepository.findByUsername("user1").get();
+        // 다른 테스트가 캐시에 넣어둔 값이 있으면 쿼리 없이 통과하므로 비운다. clear 는 커밋 후에 반영되므로 invalidate 를 쓴다.
+        cacheManager.getCache(CacheConfig.MEMBER_PRINCIPAL_BY_API_KEY).invalidate();
+        entityManager.clear();
+        statistics.clear();
+
+        assertThat(memberService.findPrincipalByApiKey(member.getApiKey()))
+                .hasValueSatisfying(principal -> assertThat(principal.id()).isEqualTo(member.getId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,285 @@
+package com.rest1.global.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 실행 중인 서버에 읽기/쓰기를 섞어 부하를 걸고, 엔드포인트별 처리량과 p50/p99 지연시간을 출력한다.
+// 서버: ./gradlew bootRun --args='--spring.profiles.active=dev,load'
+// 부하: ./gradlew loadTest -PloadArgs="--concurrency=128 --durationSeconds=120"
+// 가장 최근 글 hotPosts 개를 핫 글로 보고(LoadInitData 가 댓글을 몰아준 글) 읽기/쓰기의 일부를 집중시킨다.
+public class LoadDriver {
+
+    enum Endpoint {
+        GET_POST(40),
+        GET_POSTS(10),
+        GET_HOT_POST_COMMENTS(20),
+        GET_POST_COMMENTS_PAGE(10),
+        WRITE_HOT_POST_COMMENT(15),
+        WRITE_POST(5);
+
+        private final int weight;
+
+        Endpoint(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int TOTAL_WEIGHT = Arrays.stream(Endpoint.values()).mapToInt(endpoint -> endpoint.weight).sum();
+    // 첫 페이지 캐시를 거치지 않고 DB 에서 커서 조회를 하도록 아주 큰 커서를 준다.
+    private static final long UNCACHED_CURSOR = Long.MAX_VALUE / 2;
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int hotPosts;
+    private final String username;
+    private final String password;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String authorization;
+    private long maxPostId;
+    private long[] hotPostIds;
+
+    LoadDriver(Map<String, String> args) {
+        baseUrl = args.getOrDefault("baseUrl", "http://localhost:8080");
+        concurrency = Integer.parseInt(args.getOrDefault("concurrency", "64"));
+        warmupSeconds = Integer.parseInt(args.getOrDefault("warmupSeconds", "10"));
+        durationSeconds = Integer.parseInt(args.getOrDefault("durationSeconds", "60"));
+        hotPosts = Integer.parseInt(args.getOrDefault("hotPosts", "10"));
+        username = args.getOrDefault("username", "load1");
+        password = args.getOrDefault("password", "1234");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length == 2 ? pair[1] : "true");
+        }
+
+        new LoadDriver(options).run();
+    }
+
+    void run() throws Exception {
+        prepare();
+
+        System.out.printf(
+                "[load] %s concurrency=%d warmup=%ds duration=%ds maxPostId=%d hotPostIds=%s%n",
+                baseUrl, concurrency, warmupSeconds, durationSeconds, maxPostId, Arrays.toString(hotPostIds)
+        );
+
+        drive(warmupSeconds);
+        Map<Endpoint, Recorder> recorders = drive(durationSeconds);
+
+        report(recorders);
+    }
+
+    private void prepare() throws Exception {
+        String loginBody = OBJECT_MAPPER.writeValueAsString(Map.of("username", username, "password", password));
+        JsonNode login = send(HttpRequest.newBuilder(uri("/api/v1/members/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                .build());
+        authorization = "Bearer " + login.path("data").path("apiKey").asText();
+
+        JsonNode latestPosts = send(HttpRequest.newBuilder(uri("/api/v1/posts?size=" + hotPosts)).GET().build());
+        List<Long> ids = new ArrayList<>();
+        latestPosts.path("items").forEach(item -> ids.add(item.path("id").asLong()));
+
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("글이 없습니다. load 프로필로 서버를 먼저 띄워주세요.");
+        }
+
+        maxPostId = ids.getFirst();
+        hotPostIds = ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("%s %s -> %d %s".formatted(request.method(), request.uri(), response.statusCode(), response.body()));
+        }
+
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+
+    // 워커마다 자기 기록기에만 쓰고 끝난 뒤 합친다.
+    private Map<Endpoint, Recorder> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Future<Map<Endpoint, Recorder>>> futures = new ArrayList<>(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(executor.submit(() -> work(deadline)));
+            }
+        }
+
+        Map<Endpoint, Recorder> merged = new EnumMap<>(Endpoint.class);
+
+        for (Future<Map<Endpoint, Recorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) -> merged.computeIfAbsent(endpoint, e -> new Recorder()).merge(recorder));
+        }
+
+        return merged;
+    }
+
+    private Map<Endpoint, Recorder> work(long deadline) {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(random);
+            HttpRequest request = request(endpoint, random);
+            Recorder recorder = recorders.computeIfAbsent(endpoint, e -> new Recorder());
+            long startedAt = System.nanoTime();
+
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - startedAt, response.statusCode());
+            } catch (Exception e) {
+                recorder.record(System.nanoTime() - startedAt, 0);
+            }
+        }
+
+        return recorders;
+    }
+
+    private static Endpoint pick(ThreadLocalRandom random) {
+        int value = random.nextInt(TOTAL_WEIGHT);
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            value -= endpoint.weight;
+
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private HttpRequest request(Endpoint endpoint, ThreadLocalRandom random) {
+        long randomPostId = random.nextLong(1, maxPostId + 1);
+        long hotPostId = hotPostIds[random.nextInt(hotPostIds.length)];
+
+        return switch (endpoint) {
+            case GET_POST -> HttpRequest.newBuilder(uri("/api/v1/posts/" + randomPostId)).GET().build();
+            case GET_POSTS -> HttpRequest.newBuilder(uri("/api/v1/posts?cursor=" + randomPostId)).GET().build();
+            case GET_HOT_POST_COMMENTS -> HttpRequest.newBuilder(uri("/api/v1/posts/%d/comments".formatted(hotPostId))).GET().build();
+            case GET_POST_COMMENTS_PAGE -> HttpRequest.newBuilder(uri("/api/v1/posts/%d/comments?cursor=%d".formatted(randomPostId, UNCACHED_CURSOR))).GET().build();
+            case WRITE_HOT_POST_COMMENT -> HttpRequest.newBuilder(uri("/api/v1/posts/%d/comments".formatted(hotPostId)))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"부하 테스트 댓글\"}"))
+                    .build();
+            case WRITE_POST -> HttpRequest.newBuilder(uri("/api/v1/posts"))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"부하 테스트\",\"content\":\"부하 테스트 글\"}"))
+                    .build();
+        };
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void report(Map<Endpoint, Recorder> recorders) {
+        System.out.printf("%-24s %9s %9s %9s %9s %9s %8s %8s %8s%n", "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "2xx/3xx", "4xx", "5xx/err");
+
+        recorders.forEach((endpoint, recorder) -> {
+            long[] latencies = recorder.sortedLatencies();
+
+            System.out.printf(
+                    "%-24s %9d %9.1f %9.2f %9.2f %9.2f %8d %8d %8d%n",
+                    endpoint,
+                    latencies.length,
+                    (double) latencies.length / durationSeconds,
+                    percentileMillis(latencies, 0.50),
+                    percentileMillis(latencies, 0.99),
+                    percentileMillis(latencies, 1.0),
+                    recorder.successCount,
+                    recorder.clientErrorCount,
+                    recorder.serverErrorCount
+            );
+        });
+    }
+
+    private static double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long successCount;
+        private long clientErrorCount;
+        private long serverErrorCount;
+
+        void record(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+
+            latencies[size++] = latencyNanos;
+
+            switch (status / 100) {
+                case 2, 3 -> successCount++;
+                case 4 -> clientErrorCount++;
+                default -> serverErrorCount++;
+            }
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.size; i++) {
+                if (size == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, size * 2);
+                }
+
+                latencies[size++] = other.latencies[i];
+            }
+
+            successCount += other.successCount;
+            clientErrorCount += other.clientErrorCount;
+            serverErrorCount += other.serverErrorCount;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.rest1.global.perf;
+
+import com.rest1.Rest1Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ./gradlew perfTest 로 실행
+// 플랫폼 스레드와 가상 스레드 모드를 각각 띄워 높은 동시성에서 비교한다.
+// 플랫폼 모드는 톰캣 스레드 수(TOMCAT_MAX_THREADS)만큼만 동시에 처리한다.
+// 가상 모드는 요청마다 가상 스레드를 만들어 server.tomcat.threads.max 가 적용되지 않고, 커넥션 풀(DB_POOL_SIZE)만 공통 제한이다.
+// 요청 경로에서 가상 스레드가 고정되면 -Djdk.tracePinnedThreads 출력에 스택이 찍힌다.
+@Tag("perf")
+public class VirtualThreadLoadPerfTest {
+
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    // 플랫폼 모드에만 적용된다.
+    private static final int TOMCAT_MAX_THREADS = 50;
+    private static final int DB_POOL_SIZE = 20;
+
+    private static final List<String> PATHS = List.of(
+            "/api/v1/posts",
+            "/api/v1/posts/1/comments?cursor=100"
+    );
+
+    @Test
+    @DisplayName("플랫폼 스레드와 가상 스레드의 처리량/지연시간 비교")
+    void t1() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf(
+                "[virtual threads] concurrency=%d requests=%d dbPool=%d%n  platform (tomcat threads %d) : %s%n  virtual  (no thread cap)    : %s%n",
+                CONCURRENCY, CONCURRENCY * REQUESTS_PER_CLIENT, DB_POOL_SIZE, TOMCAT_MAX_THREADS, platform, virtual
+        );
+
+        assertThat(platform.errorCount()).isZero();
+        assertThat(virtual.errorCount()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Rest1Application.class)
+                .profiles("test", "perf")
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "--spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+                        "--spring.datasource.url=jdbc:h2:mem:db_load_%s;MODE=MySQL".formatted(mode)
+                )) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            // 워밍업
+            drive(port, 20, 20);
+
+            return drive(port, CONCURRENCY, REQUESTS_PER_CLIENT);
+        }
+    }
+
+    private Result drive(int port, int concurrency, int requestsPerClient) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        AtomicLong errorCount = new AtomicLong();
+
+        try (httpClient; ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int clientNo = i;
+
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    startLatch.await();
+
+                    for (int j = 0; j < requestsPerClient; j++) {
+                        String path = PATHS.get((clientNo + j) % PATHS.size());
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(port, path)))
+                                .GET()
+                                .build();
+
+                        long startNanos = System.nanoTime();
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[j] = System.nanoTime() - startNanos;
+
+                        if (response.statusCode() != 200) {
+                            errorCount.incrementAndGet();
+                        }
+                    }
+
+                    return latencies;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            startLatch.countDown();
+
+            long[] latencies = new long[concurrency * requestsPerClient];
+            int offset = 0;
+
+            for (Future<long[]> future : futures) {
+                long[] clientLatencies = future.get();
+                System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+                offset += clientLatencies.length;
+            }
+
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            Arrays.sort(latencies);
+
+            return new Result(
+                    latencies.length / elapsedSeconds,
+                    percentileMillis(latencies, 0.50),
+                    percentileMillis(latencies, 0.99),
+                    errorCount.get()
+            );
+        }
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(
+            double requestsPerSecond,
+            double p50Millis,
+            double p99Millis,
+            long errorCount
+    ) {
+        @Override
+        public String toString() {
+            return "%,.0f req/s, p50 %.1fms, p99 %.1fms, errors %d".formatted(requestsPerSecond, p50Millis, p99Millis, errorCount);
+        }
+    }
+}
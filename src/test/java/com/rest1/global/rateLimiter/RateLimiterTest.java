@@ -0,0 +1,43 @@
+package com.rest1.global.rateLimiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final RateLimiter rateLimiter = new RateLimiter(new RateLimiter.Limit(3, 60), 100, now::get);
+
+    @Test
+    @DisplayName("용량만큼 쓰면 막히고, 시간이 지나면 다시 찬다.")
+    void t1() {
+        assertThat(rateLimiter.tryAcquire("user1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user1")).isFalse();
+        assertThat(rateLimiter.hasToken("user1")).isFalse();
+
+        now.addAndGet(Duration.ofMillis(1500).toNanos());
+
+        assertThat(rateLimiter.hasToken("user1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user1")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("키마다 따로 센다.")
+    void t2() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("user1");
+        }
+
+        assertThat(rateLimiter.tryAcquire("user1")).isFalse();
+        assertThat(rateLimiter.hasToken("user2")).isTrue();
+        assertThat(rateLimiter.tryAcquire("user2")).isTrue();
+    }
+}